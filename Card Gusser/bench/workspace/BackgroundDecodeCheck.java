@@ -0,0 +1,63 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+import javafx.scene.image.Image;
+
+// starts many games in a row and checks the background is only ever decoded once
+// every game start asks the loader for the background and shows a card back and the cards it deals,
+// like the game screen does
+// usage: java workspace.BackgroundDecodeCheck [games=200]
+public class BackgroundDecodeCheck {
+
+    public static void main(String[] args) {
+        int games = 200;
+        for (String arg : args) {
+            String[] parts = arg.split("=", 2);
+            switch (parts[0]) {
+                case "games": games = Integer.parseInt(parts[1]); break;
+                default: System.err.println("Unknown option: " + parts[0]);
+            }
+        }
+
+        AssetLoader.setBackgroundSize(800, 600);
+        AssetLoader.start();
+        Image first = AssetLoader.backgroundImage().join();
+        if (first == null) {
+            System.out.println("FAIL: background did not load");
+            System.exit(1);
+        }
+
+        Deck deck = new Deck();
+        int failures = 0;
+        for (int game = 0; game < games; game++) {
+            AssetLoader.start(); // a no-op once started, but every screen may call it
+            if (AssetLoader.backgroundImage().join() != first) {
+                System.out.println("Game " + game + " got a different background image");
+                failures++;
+            }
+            deck.shuffle();
+            CardImageCache.getBackImage();
+            for (int card = 0; card < 11; card++) { // the cards one full game deals
+                CardImageCache.getCardImage(deck.drawCard());
+            }
+        }
+
+        int decodes = AssetLoader.getBackgroundDecodeCount();
+        System.out.println(games + " games started, background decoded " + decodes + " time(s)");
+        if (decodes != 1 || failures > 0) {
+            System.out.println("FAIL");
+            System.exit(1);
+        }
+        System.out.println("PASS");
+    }
+}
@@ -0,0 +1,79 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+
+// draws per second from one shared ConcurrentDeck as the thread count goes up
+// usage: java workspace.ConcurrentDeckBenchmark [maxThreads=cores] [draws=2000000] [decks=8]
+public class ConcurrentDeckBenchmark {
+
+    private static volatile long sink; // stops the jit from dropping the draws
+
+    public static void main(String[] args) throws Exception {
+        int maxThreads = Runtime.getRuntime().availableProcessors();
+        int draws = 2_000_000;
+        int decks = 8;
+        for (String arg : args) {
+            String[] parts = arg.split("=", 2);
+            switch (parts[0]) {
+                case "maxThreads": maxThreads = Integer.parseInt(parts[1]); break;
+                case "draws": draws = Integer.parseInt(parts[1]); break;
+                case "decks": decks = Integer.parseInt(parts[1]); break;
+                default: System.err.println("Unknown option: " + parts[0]);
+            }
+        }
+
+        run(2, draws, decks); // warm up
+        double baseRate = 0;
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            double rate = run(threads, draws, decks);
+            if (baseRate == 0) {
+                baseRate = rate;
+            }
+            System.out.printf(Locale.ROOT, "%3d threads: %8.2f M draws/s  (x%.2f)%n", threads, rate / 1e6, rate / baseRate);
+            if (threads < maxThreads && threads * 2 > maxThreads) {
+                threads = maxThreads / 2; // make sure the last row is the full core count
+            }
+        }
+    }
+
+    // every thread draws its share, returns total draws per second
+    private static double run(int threads, int drawsPerThread, int decks) throws Exception {
+        ConcurrentDeck deck = new ConcurrentDeck(decks, 5);
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            new Thread(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                long total = 0;
+                for (int i = 0; i < drawsPerThread; i++) {
+                    total += deck.drawCard().getOrdinal();
+                }
+                sink = total;
+                done.countDown();
+            }).start();
+        }
+        ready.await();
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        return (double) threads * drawsPerThread / ((System.nanoTime() - begin) / 1e9);
+    }
+}
@@ -0,0 +1,96 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+// hammers one ConcurrentDeck from many threads and checks every card is dealt exactly once per epoch
+// usage: java workspace.ConcurrentDeckStressCheck [threads=8] [draws=200000] [decks=1]
+public class ConcurrentDeckStressCheck {
+
+    public static void main(String[] args) throws Exception {
+        int threads = 8;
+        int draws = 200_000;
+        int decks = 1;
+        for (String arg : args) {
+            String[] parts = arg.split("=", 2);
+            switch (parts[0]) {
+                case "threads": threads = Integer.parseInt(parts[1]); break;
+                case "draws": draws = Integer.parseInt(parts[1]); break;
+                case "decks": decks = Integer.parseInt(parts[1]); break;
+                default: System.err.println("Unknown option: " + parts[0]);
+            }
+        }
+
+        ConcurrentDeck deck = new ConcurrentDeck(decks, 99);
+        long[][] drawn = new long[threads][draws];
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long[] mine = drawn[t];
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await(); // release every thread together for the most contention
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < mine.length; i++) {
+                    mine[i] = deck.drawWithEpoch();
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        // count each card per epoch
+        Map<Long, int[]> countsByEpoch = new HashMap<>();
+        for (long[] mine : drawn) {
+            for (long draw : mine) {
+                countsByEpoch.computeIfAbsent(draw >>> 8, epoch -> new int[Deck.SIZE])[(int) (draw & 0xFF)]++;
+            }
+        }
+
+        // every epoch but the newest must be complete: each card exactly once per deck
+        // the newest may be part dealt, but still no card more than once per deck
+        long newest = countsByEpoch.keySet().stream().mapToLong(Long::longValue).max().orElse(0);
+        int failures = 0;
+        for (long epoch = 1; epoch <= newest; epoch++) {
+            int[] counts = countsByEpoch.get(epoch);
+            if (counts == null) {
+                System.out.println("Epoch " + epoch + " was skipped");
+                failures++;
+                continue;
+            }
+            for (int ordinal = 0; ordinal < Deck.SIZE; ordinal++) {
+                boolean wrong = epoch < newest ? counts[ordinal] != decks : counts[ordinal] > decks;
+                if (wrong) {
+                    System.out.println("Epoch " + epoch + ": " + Card.of(ordinal) + " dealt " + counts[ordinal] + " times");
+                    failures++;
+                }
+            }
+        }
+
+        System.out.println(threads + " threads drew " + (long) threads * draws + " cards over " + newest + " epochs: "
+                + (failures == 0 ? "every card exactly once per epoch" : failures + " failures"));
+        if (failures > 0) {
+            System.exit(1);
+        }
+    }
+}
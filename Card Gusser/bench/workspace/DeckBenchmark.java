@@ -0,0 +1,116 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+// compares the byte[] deck against the old list-of-cards deck
+// usage: java workspace.DeckBenchmark [rounds=2000000]
+public class DeckBenchmark {
+
+    private static final int WARMUP_ROUNDS = 200_000;
+    private static volatile int sink; // stops the jit from dropping the draws
+
+    public static void main(String[] args) {
+        int rounds = 2_000_000;
+        if (args.length > 0) {
+            rounds = Integer.parseInt(args[0].replace("rounds=", ""));
+        }
+
+        Deck deck = new Deck(new SplittableRandom(1));
+        ListDeck listDeck = new ListDeck();
+
+        // warm both up before measuring
+        runDeck(deck, WARMUP_ROUNDS);
+        runListDeck(listDeck, WARMUP_ROUNDS);
+
+        System.out.println("Shuffle plus 11 draws (one full game), " + rounds + " rounds");
+        for (int pass = 1; pass <= 3; pass++) {
+            long start = System.nanoTime();
+            long bytes = allocatedBytes();
+            runDeck(deck, rounds);
+            long[] primitive = {System.nanoTime() - start, allocatedBytes() - bytes};
+
+            start = System.nanoTime();
+            bytes = allocatedBytes();
+            runListDeck(listDeck, rounds);
+            long[] list = {System.nanoTime() - start, allocatedBytes() - bytes};
+
+            System.out.printf(Locale.ROOT, "pass %d  byte[] deck: %6.1f ns/round %6.2f B/round | list deck: %6.1f ns/round %6.2f B/round | x%.2f%n",
+                    pass, (double) primitive[0] / rounds, (double) primitive[1] / rounds,
+                    (double) list[0] / rounds, (double) list[1] / rounds, (double) list[0] / primitive[0]);
+        }
+    }
+
+    private static void runDeck(Deck deck, int rounds) {
+        int total = 0;
+        for (int i = 0; i < rounds; i++) {
+            deck.shuffle();
+            for (int c = 0; c < 11; c++) {
+                total += deck.drawCard().getRank();
+            }
+        }
+        sink = total;
+    }
+
+    private static void runListDeck(ListDeck deck, int rounds) {
+        int total = 0;
+        for (int i = 0; i < rounds; i++) {
+            deck.shuffle();
+            for (int c = 0; c < 11; c++) {
+                total += deck.drawCard().getRank();
+            }
+        }
+        sink = total;
+    }
+
+    // bytes allocated so far by this thread, -1 if the jvm cannot tell
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    // the deck as it was before: boxed cards in a list, shuffled by Collections.shuffle
+    static class ListDeck {
+        private final List<Card> cards = new ArrayList<>();
+        private int currentCardIndex;
+
+        ListDeck() {
+            for (int suit = 0; suit <= 3; suit++) {
+                for (int rank = 2; rank <= 14; rank++) {
+                    cards.add(Card.of(rank, suit));
+                }
+            }
+            shuffle();
+        }
+
+        void shuffle() {
+            Collections.shuffle(cards);
+            currentCardIndex = 0;
+        }
+
+        Card drawCard() {
+            if (currentCardIndex >= cards.size()) {
+                shuffle();
+            }
+            return cards.get(currentCardIndex++);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// draws, reshuffles and starts games on decks and shoes, and after every step checks the remaining-card
+// counters and bitmask against a recount of the cards actually left
+// a concurrent deck is also drawn from by many threads, then checked against what those threads were dealt
+// usage: java workspace.DeckCountsCheck [steps=20000] [threads=4]
+public class DeckCountsCheck {
+
+    private static int failures;
+
+    public static void main(String[] args) throws Exception {
+        int steps = 20_000;
+        int threads = 4;
+        for (String arg : args) {
+            String[] parts = arg.split("=", 2);
+            switch (parts[0]) {
+                case "steps": steps = Integer.parseInt(parts[1]); break;
+                case "threads": threads = Integer.parseInt(parts[1]); break;
+                default: System.err.println("Unknown option: " + parts[0]);
+            }
+        }
+
+        checkDeck("Deck", new Deck(11), steps);
+        checkDeck("Shoe(6 decks)", new Shoe(6, 0.75, new SplittableRandom(12)), steps);
+        checkDeck("Shoe(1 deck)", new Shoe(1, new SplittableRandom(13)), steps);
+        checkConcurrentDeck(steps);
+        checkConcurrentDeckThreads(threads, steps);
+
+        System.out.println(failures == 0 ? "PASS" : "FAIL: " + failures + " mismatches");
+        if (failures > 0) {
+            System.exit(1);
+        }
+    }
+
+    // the undrawn cards of a deck or shoe are everything from the draw index on
+    private static void checkDeck(String name, Deck deck, int steps) {
+        SplittableRandom actions = new SplittableRandom(1);
+        for (int step = 0; step < steps; step++) {
+            act(deck, actions);
+            int[] left = new int[Deck.SIZE];
+            for (int i = deck.currentCardIndex; i < deck.cards.length; i++) {
+                left[deck.cards[i]]++;
+            }
+            compare(name + " step " + step, deck, left);
+        }
+        System.out.println(name + ": " + steps + " steps checked, " + deck.getShuffleCount() + " shuffles");
+    }
+
+    // a concurrent deck does not expose its order, so the recount is every card minus what this epoch dealt
+    private static void checkConcurrentDeck(int steps) {
+        ConcurrentDeck deck = new ConcurrentDeck(3, 14);
+        SplittableRandom actions = new SplittableRandom(2);
+        long epoch = deck.getShuffleCount();
+        int[] left = full(3);
+        for (int step = 0; step < steps; step++) {
+            int action = actions.nextInt(100);
+            if (action < 2) {
+                deck.shuffle();
+            } else {
+                long draw = deck.drawWithEpoch();
+                if ((draw >>> 8) != epoch) {
+                    left = full(3); // ran out, the draw came from a fresh epoch
+                    epoch = draw >>> 8;
+                }
+                left[(int) (draw & 0xFF)]--;
+            }
+            if (deck.getShuffleCount() != epoch) {
+                left = full(3);
+                epoch = deck.getShuffleCount();
+            }
+            compare("ConcurrentDeck step " + step, deck, left);
+        }
+        System.out.println("ConcurrentDeck: " + steps + " steps checked, " + deck.getShuffleCount() + " epochs");
+    }
+
+    // once the threads have stopped, the counts must match exactly what the newest epoch dealt
+    private static void checkConcurrentDeckThreads(int threads, int drawsPerThread) throws Exception {
+        ConcurrentDeck deck = new ConcurrentDeck(4, 15);
+        long[][] drawn = new long[threads][drawsPerThread];
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long[] mine = drawn[t];
+            Thread worker = new Thread(() -> {
+                for (int i = 0; i < mine.length; i++) {
+                    mine[i] = deck.drawWithEpoch();
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        long newest = deck.getShuffleCount();
+        int[] left = full(4);
+        for (long[] mine : drawn) {
+            for (long draw : mine) {
+                if ((draw >>> 8) == newest) {
+                    left[(int) (draw & 0xFF)]--;
+                }
+            }
+        }
+        compare("ConcurrentDeck after " + threads + " threads", deck, left);
+        System.out.println("ConcurrentDeck: " + threads + " threads drew " + (long) threads * drawsPerThread
+                + " cards over " + newest + " epochs");
+    }
+
+    // mostly draws, sometimes a new game or a full reshuffle
+    private static void act(Deck deck, SplittableRandom actions) {
+        int action = actions.nextInt(100);
+        if (action < 2) {
+            deck.shuffle();
+        } else if (action < 5) {
+            deck.prepareForNewGame();
+        } else {
+            deck.drawCard();
+        }
+    }
+
+    private static int[] full(int decks) {
+        int[] left = new int[Deck.SIZE];
+        Arrays.fill(left, decks);
+        return left;
+    }
+
+    // checks every counter the deck answers against the recounted cards
+    private static void compare(String where, Deck deck, int[] left) {
+        int total = 0;
+        long mask = 0;
+        int[] bySuit = new int[4];
+        int[] byRank = new int[15];
+        for (int ordinal = 0; ordinal < Deck.SIZE; ordinal++) {
+            Card card = Card.of(ordinal);
+            total += left[ordinal];
+            if (left[ordinal] > 0) {
+                mask |= 1L << ordinal;
+            }
+            bySuit[card.getSuit()] += left[ordinal];
+            byRank[card.getRank()] += left[ordinal];
+            expect(where, "remainingOf(" + card + ")", deck.remainingOf(card), left[ordinal]);
+        }
+        expect(where, "cardsRemaining", deck.cardsRemaining(), total);
+        expect(where, "remainingMask", deck.remainingMask(), mask);
+        expect(where, "countRemaining(RED_MASK)", deck.countRemaining(Deck.RED_MASK), Long.bitCount(mask & Deck.RED_MASK));
+        expect(where, "remainingOfColor(red)", deck.remainingOfColor(true), bySuit[0] + bySuit[1]);
+        for (int suit = 0; suit <= 3; suit++) {
+            expect(where, "remainingOfSuit(" + suit + ")", deck.remainingOfSuit(suit), bySuit[suit]);
+        }
+        for (int rank = 2; rank <= 14; rank++) {
+            expect(where, "remainingOfRank(" + rank + ")", deck.remainingOfRank(rank), byRank[rank]);
+        }
+    }
+
+    private static void expect(String where, String what, long actual, long expected) {
+        if (actual != expected) {
+            failures++;
+            if (failures <= 20) {
+                System.out.println(where + ": " + what + " is " + actual + ", recount says " + expected);
+            }
+        }
+    }
+}
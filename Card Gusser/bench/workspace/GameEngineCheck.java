@@ -0,0 +1,242 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// plays whole games on the headless engine with a seeded deck and checks the score, the hints,
+// the timer and every listener event against the standard rules
+// usage: java workspace.GameEngineCheck [seed=21]
+public class GameEngineCheck {
+
+    private static int failures;
+
+    // writes every event down as a short line, so a game can be checked event by event
+    private static class Recorder implements GameEngine.Listener {
+        final List<String> events = new ArrayList<>();
+
+        @Override
+        public void levelStarted(int levelNumber, int cardCount) {
+            events.add("started " + levelNumber + " " + cardCount);
+        }
+
+        @Override
+        public void levelPrepared(int levelNumber, Level level) {
+            events.add("prepared " + levelNumber);
+        }
+
+        @Override
+        public void levelStartFailed(int levelNumber) {
+            events.add("failed " + levelNumber);
+        }
+
+        @Override
+        public void guessChecked(Card card, int cardIndex, boolean correct, boolean levelComplete) {
+            events.add("guess " + cardIndex + " " + correct + " " + levelComplete);
+        }
+
+        @Override
+        public void hintUsed(Card card, String hintText) {
+            events.add("hint");
+        }
+
+        @Override
+        public void levelCompleted(int levelNumber, int earnedXP, boolean hintUsed) {
+            events.add("completed " + levelNumber + " " + earnedXP + " " + hintUsed);
+        }
+
+        @Override
+        public void timerTicked(int secondsLeft) {
+            events.add("tick " + secondsLeft);
+        }
+
+        @Override
+        public void timedOut(int levelNumber) {
+            events.add("timeout " + levelNumber);
+        }
+
+        @Override
+        public void gameWon(int score) {
+            events.add("won " + score);
+        }
+
+        int count(String prefix) {
+            int count = 0;
+            for (String event : events) {
+                if (event.startsWith(prefix)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+
+    public static void main(String[] args) {
+        long seed = 21;
+        for (String arg : args) {
+            String[] parts = arg.split("=", 2);
+            switch (parts[0]) {
+                case "seed": seed = Long.parseLong(parts[1]); break;
+                default: System.err.println("Unknown option: " + parts[0]);
+            }
+        }
+
+        checkFullGame(seed, "Easy", false);
+        checkFullGame(seed, "Hard", false);
+        checkFullGame(seed, "Easy", true);
+        checkTimeout(seed);
+        checkHints(seed);
+        checkPause(seed);
+
+        System.out.println(failures == 0 ? "PASS" : "FAIL: " + failures + " problems");
+        if (failures > 0) {
+            System.exit(1);
+        }
+    }
+
+    // wins a whole game: one wrong guess on level 1, a hint on the last card of level 3, everything else right
+    // the cards dealt must be the ones a second deck with the same seed draws
+    private static void checkFullGame(long seed, String difficulty, boolean lookAhead) {
+        String name = difficulty + (lookAhead ? " with look-ahead" : "");
+        GameEngine engine = new GameEngine(new Deck(seed), difficulty, LevelSchedule.standard());
+        engine.setLookAhead(lookAhead);
+        Recorder recorder = new Recorder();
+        engine.setListener(recorder);
+        Deck mirror = new Deck(seed);
+        mirror.prepareForNewGame();
+
+        engine.startNewGame();
+        int expectedScore = 0;
+        for (int level = 1; level <= 10; level++) {
+            expect(name + " level", engine.getLevelNumber(), level);
+            expect(name + " seconds on level " + level, engine.getSecondsLeft(), 15);
+            int cards = engine.getCardsInLevel();
+            expect(name + " cards on level " + level, cards, level == 10 ? 2 : 1);
+            for (int i = 0; i < cards; i++) {
+                Card target = engine.getTargetCard();
+                expect(name + " card " + i + " of level " + level, target, mirror.drawCard());
+                int answer = engine.isEasyMode() ? target.getSuit() : target.getRank();
+                if (level == 1) {
+                    int wrong = engine.isEasyMode() ? (answer + 1) % 4 : (answer == 14 ? 2 : answer + 1);
+                    expect(name + " wrong guess", engine.guess(wrong), false);
+                    expect(name + " still playing after a wrong guess", engine.isLevelInProgress(), true);
+                }
+                if (level == 3) {
+                    expect(name + " hint given", engine.useHint() != null, true);
+                }
+                expect(name + " guess on level " + level, engine.guess(answer), true);
+            }
+            expectedScore += level == 3 ? 5 : 10 + level;
+            expect(name + " score after level " + level, engine.getScore(), expectedScore);
+            if (level < 10) {
+                expect(name + " won early", engine.isGameWon(), false);
+                expect(name + " next level started", engine.startNextLevel(), true);
+            }
+        }
+
+        expect(name + " won", engine.isGameWon(), true);
+        expect(name + " score", engine.getScore(), 147); // 11 + 12 + ... + 20, with 13 hinted down to 5
+        expect(name + " hints left", engine.getHintsRemaining(), 2);
+        expect(name + " levels started", recorder.count("started "), 10);
+        expect(name + " levels completed", recorder.count("completed "), 10);
+        expect(name + " levels prepared", recorder.count("prepared "), lookAhead ? 9 : 0);
+        expect(name + " guesses", recorder.count("guess "), 12);
+        expect(name + " wrong guesses", recorder.count("guess 0 false"), 1);
+        expect(name + " hints", recorder.count("hint"), 1);
+        expect(name + " level 3 scored", recorder.events.contains("completed 3 5 true"), true);
+        expect(name + " level 10 first card", recorder.events.contains("guess 0 true false"), true);
+        expect(name + " level 10 second card", recorder.events.contains("guess 1 true true"), true);
+        expect(name + " last event", recorder.events.get(recorder.events.size() - 1), "won 147");
+        expect(name + " wins", recorder.count("won "), 1);
+        System.out.println(name + ": full game checked, " + recorder.events.size() + " events");
+    }
+
+    // the timer counts down once a tick, runs out on the 15th and stops; the next level starts over
+    private static void checkTimeout(long seed) {
+        GameEngine engine = new GameEngine(new Deck(seed), "Easy", LevelSchedule.standard());
+        Recorder recorder = new Recorder();
+        engine.setListener(recorder);
+        engine.startNewGame();
+        for (int i = 0; i < 14; i++) {
+            engine.tick();
+        }
+        expect("timeout seconds left", engine.getSecondsLeft(), 1);
+        expect("timeout still playing", engine.isLevelInProgress(), true);
+        expect("timeout before the last tick", recorder.count("timeout "), 0);
+        engine.tick();
+        expect("timeout level over", engine.isLevelInProgress(), false);
+        expect("timeout event", recorder.events.get(recorder.events.size() - 1), "timeout 1");
+        expect("timeout names the card", engine.getTargetCardInfo(), engine.getTargetCard().getName());
+        expect("timeout revealed", engine.getRevealedCount(), 1);
+
+        int events = recorder.events.size();
+        engine.tick();
+        expect("ticks after the timeout", recorder.events.size(), events);
+        expect("guess after the timeout", engine.guess(engine.getTargetCard().getSuit()), false);
+        expect("score after the timeout", engine.getScore(), 0);
+
+        expect("level after a timeout", engine.startNextLevel(), true);
+        expect("level after a timeout number", engine.getLevelNumber(), 2);
+        expect("level after a timeout seconds", engine.getSecondsLeft(), 15);
+        expect("level after a timeout playing", engine.isLevelInProgress(), true);
+        System.out.println("timeout checked");
+    }
+
+    // three hints a game, one per card at most counted against the score, none once the level is over
+    private static void checkHints(long seed) {
+        GameEngine engine = new GameEngine(new Deck(seed), "Hard", LevelSchedule.standard());
+        engine.startNewGame();
+        for (int i = 0; i < 3; i++) {
+            expect("hint " + (i + 1), engine.useHint() != null, true);
+        }
+        expect("hint past the limit", engine.useHint(), null);
+        expect("hints left", engine.getHintsRemaining(), 0);
+        expect("hint category", engine.getHintCategory(), GameEngine.hintCategoryOfRank(engine.getTargetCard().getRank()));
+        engine.guess(engine.getTargetCard().getRank());
+        expect("hinted level score", engine.getScore(), 5);
+
+        engine.startNewGame();
+        expect("hints after a new game", engine.getHintsRemaining(), 3);
+        expect("score after a new game", engine.getScore(), 0);
+        engine.guess(engine.getTargetCard().getRank());
+        expect("hint after the level", engine.useHint(), null);
+        expect("hints after the level", engine.getHintsRemaining(), 3);
+        System.out.println("hints checked");
+    }
+
+    // a paused level ignores ticks and guesses until it is resumed
+    private static void checkPause(long seed) {
+        GameEngine engine = new GameEngine(new Deck(seed), "Easy", LevelSchedule.standard());
+        engine.startNewGame();
+        engine.tick();
+        expect("pause while playing", engine.pause(), true);
+        engine.tick();
+        expect("paused seconds left", engine.getSecondsLeft(), 14);
+        expect("paused guess", engine.guess(engine.getTargetCard().getSuit()), false);
+        engine.resume();
+        engine.tick();
+        expect("resumed seconds left", engine.getSecondsLeft(), 13);
+        expect("resumed guess", engine.guess(engine.getTargetCard().getSuit()), true);
+        expect("pause after the level", engine.pause(), false);
+        engine.resume();
+        expect("resume after the level", engine.isLevelInProgress(), false);
+        System.out.println("pause checked");
+    }
+
+    private static void expect(String what, Object actual, Object expected) {
+        if (actual == null ? expected != null : !actual.equals(expected)) {
+            System.out.println(what + " is " + actual + ", expected " + expected);
+            failures++;
+        }
+    }
+}
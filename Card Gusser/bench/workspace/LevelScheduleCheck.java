@@ -0,0 +1,141 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+// checks the level schedule parser: the bundled standard schedule must match the original hard-coded rules,
+// open-ended rows must cover every later level, and malformed files must be rejected rather than guessed at
+// usage: java workspace.LevelScheduleCheck
+public class LevelScheduleCheck {
+
+    private static int failures;
+
+    public static void main(String[] args) throws IOException {
+        checkStandard();
+        checkOpenEnded();
+        checkRejected();
+        System.out.println(failures == 0 ? "PASS" : "FAIL: " + failures + " problems");
+        if (failures > 0) {
+            System.exit(1);
+        }
+    }
+
+    // the rules the game had before schedules: 10 levels of 15 seconds, one card each but two on level 10,
+    // 10 + level points or 5 with a hint, and 3 hints a game
+    private static void checkStandard() {
+        LevelSchedule standard = LevelSchedule.standard();
+        expect("standard last level", standard.getLastLevel(), 10);
+        expect("standard hints", standard.getStartingHints(), 3);
+        expect("standard most cards", standard.getMaxCardsPerLevel(), 2);
+        expect("standard endless", standard.isEndless(), false);
+        for (int level = 1; level <= 10; level++) {
+            expect("standard cards on level " + level, standard.cardsIn(level), level == 10 ? 2 : 1);
+            expect("standard seconds on level " + level, standard.secondsFor(level), 15);
+            expect("standard points on level " + level, standard.pointsFor(level, false), 10 + level);
+            expect("standard hinted points on level " + level, standard.pointsFor(level, true), 5);
+            expect("standard hints allowed on level " + level, standard.isHintAllowed(level), true);
+            expect("standard level " + level + " final", standard.isFinalLevel(level), level == 10);
+        }
+        System.out.println("standard schedule checked against the original rules");
+    }
+
+    // an N+ row holds for every level from N on, including levels far past the table
+    private static void checkOpenEnded() throws IOException {
+        LevelSchedule endless = parse("levels endless\n"
+                + "hints 0\n"
+                + "1-2  1 15 10 1 5 yes\n"
+                + "3+   4 10 40 3 0 no\n");
+        expect("open-ended endless", endless.isEndless(), true);
+        expect("open-ended hints", endless.getStartingHints(), 0);
+        expect("open-ended cards on level 2", endless.cardsIn(2), 1);
+        expect("open-ended cards on level 3", endless.cardsIn(3), 4);
+        expect("open-ended cards on level 1000000", endless.cardsIn(1_000_000), 4);
+        expect("open-ended points on level 1000", endless.pointsFor(1000, false), 40 + 3 * 1000);
+        expect("open-ended hints allowed on level 2", endless.isHintAllowed(2), true);
+        expect("open-ended hints allowed on level 500", endless.isHintAllowed(500), false);
+        expect("open-ended level 1000000 final", endless.isFinalLevel(1_000_000), false);
+
+        // an endless schedule keeps scoring at the int limit rather than wrapping around to a negative score
+        LevelSchedule steep = parse("levels endless\nhints 0\n1+ 1 15 10 1000000 5 yes\n");
+        expect("endless points on level 2000", steep.pointsFor(2000, false), 10 + 1_000_000 * 2000);
+        expect("endless points on level 3000", steep.pointsFor(3000, false), Integer.MAX_VALUE);
+        expect("endless points on the last int level", steep.pointsFor(Integer.MAX_VALUE, false), Integer.MAX_VALUE);
+        LevelSchedule falling = parse("levels endless\nhints 0\n1+ 1 15 10 -1000000 5 yes\n");
+        expect("endless falling points on level 3000", falling.pointsFor(3000, false), Integer.MIN_VALUE);
+
+        // a finite game may also end its table with an open-ended row
+        LevelSchedule finite = parse("levels 20\nhints 1\n1 1 15 10 1 5 yes\n2+ 2 12 20 2 10 yes\n");
+        expect("finite open-ended cards on level 20", finite.cardsIn(20), 2);
+        expect("finite open-ended level 20 final", finite.isFinalLevel(20), true);
+
+        // comments and blank lines are ignored
+        LevelSchedule commented = parse("# a comment\n\nlevels 1   # one level\nhints 2\n1 3 9 7 0 2 no # last\n");
+        expect("commented cards", commented.cardsIn(1), 3);
+        expect("commented seconds", commented.secondsFor(1), 9);
+        System.out.println("open-ended rows checked");
+    }
+
+    private static void checkRejected() {
+        String rules = "levels 3\nhints 3\n";
+        rejects("negative hints", "levels 3\nhints -2\n1-3 1 15 10 1 5 yes\n");
+        rejects("hints not a number", "levels 3\nhints lots\n1-3 1 15 10 1 5 yes\n");
+        rejects("capitalised yes", rules + "1-3 1 15 10 1 5 Yes\n");
+        rejects("hints allowed not yes or no", rules + "1-3 1 15 10 1 5 true\n");
+        rejects("missing field", rules + "1-3 1 15 10 1 yes\n");
+        rejects("extra field", rules + "1-3 1 15 10 1 5 yes 7\n");
+        rejects("zero cards", rules + "1-3 0 15 10 1 5 yes\n");
+        rejects("zero seconds", rules + "1-3 1 0 10 1 5 yes\n");
+        rejects("points not a number", rules + "1-3 1 15 ten 1 5 yes\n");
+        rejects("gap between rows", rules + "1 1 15 10 1 5 yes\n3 1 15 10 1 5 yes\n");
+        rejects("overlapping rows", rules + "1-2 1 15 10 1 5 yes\n2-3 1 15 10 1 5 yes\n");
+        rejects("first row not level 1", rules + "2-3 1 15 10 1 5 yes\n");
+        rejects("backwards range", rules + "1 1 15 10 1 5 yes\n3-2 1 15 10 1 5 yes\n");
+        rejects("row after open-ended row", rules + "1+ 1 15 10 1 5 yes\n4 1 15 10 1 5 yes\n");
+        rejects("rows stop short", rules + "1-2 1 15 10 1 5 yes\n");
+        rejects("no rows", rules);
+        rejects("no levels line", "hints 3\n1-3 1 15 10 1 5 yes\n");
+        rejects("zero levels", "levels 0\nhints 3\n1 1 15 10 1 5 yes\n");
+        rejects("levels not a number", "levels many\nhints 3\n1 1 15 10 1 5 yes\n");
+        rejects("points overflow in the table", rules + "1-3 1 15 10 1000000000 5 yes\n");
+        rejects("points overflow below zero", rules + "1-3 1 15 10 -1000000000 5 yes\n");
+        rejects("points overflow past the table", "levels 5000\nhints 3\n1 1 15 10 1 5 yes\n2+ 1 15 10 1000000 5 yes\n");
+        System.out.println("malformed files checked");
+    }
+
+    private static LevelSchedule parse(String text) throws IOException {
+        return LevelSchedule.parse("check", new StringReader(text));
+    }
+
+    private static void rejects(String what, String text) {
+        try {
+            LevelSchedule schedule = parse(text);
+            System.out.println(what + ": accepted as " + schedule);
+            failures++;
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        catch (IOException e) {
+            System.out.println(what + ": " + e);
+            failures++;
+        }
+    }
+
+    private static void expect(String what, Object actual, Object expected) {
+        if (!actual.equals(expected)) {
+            System.out.println(what + " is " + actual + ", expected " + expected);
+            failures++;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+import javafx.scene.media.Media;
+import javafx.scene.media.MediaPlayer;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// times the startup work done before the first frame can be drawn, with the music loaded the old way
+// (synchronously in start()), the new way (on a worker once the first frame is up) and muted (never)
+// every run is a fresh jvm, so the one-off native media setup is paid each time, as it is at launch
+// usage: java workspace.MusicStartupCheck [runs=3]
+public class MusicStartupCheck {
+
+    private static final String[] CASES = {"sync", "deferred", "muted"};
+    private static final String MUSIC_PATH = "/workspace/music/launch-bg-music.mp3";
+
+    public static void main(String[] args) throws Exception {
+        int runs = 3;
+        String single = null;
+        for (String arg : args) {
+            String[] parts = arg.split("=", 2);
+            switch (parts[0]) {
+                case "runs": runs = Integer.parseInt(parts[1]); break;
+                case "case": single = parts[1]; break;
+                default: System.err.println("Unknown option: " + parts[0]);
+            }
+        }
+        if (single != null) {
+            runCase(single);
+            return;
+        }
+
+        double[] beforeFrame = new double[CASES.length];
+        double[] musicReady = new double[CASES.length];
+        for (int run = 0; run < runs; run++) {
+            for (int c = 0; c < CASES.length; c++) {
+                double[] result = runChild(CASES[c]);
+                beforeFrame[c] += result[0] / runs;
+                musicReady[c] += result[1] / runs;
+            }
+        }
+
+        System.out.printf(Locale.ROOT, "%-10s %22s %20s%n", "music", "before first frame ms", "music ready ms");
+        for (int c = 0; c < CASES.length; c++) {
+            System.out.printf(Locale.ROOT, "%-10s %22.1f %20s%n", CASES[c], beforeFrame[c],
+                    musicReady[c] < 0 ? "never loaded" : String.format(Locale.ROOT, "%.1f", musicReady[c]));
+        }
+        boolean ok = beforeFrame[1] < beforeFrame[0] && beforeFrame[2] < beforeFrame[0];
+        System.out.println(ok ? "PASS: the first frame no longer waits on the music" : "FAIL: the first frame still waits on the music");
+        if (!ok) {
+            System.exit(1);
+        }
+    }
+
+    // what Main.start() does before the stage is shown, then what the first frame callback does
+    private static void runCase(String name) {
+        long start = System.nanoTime();
+        AssetLoader.start();
+        if (name.equals("sync")) {
+            loadMusicOnThisThread(); // the original setupBackgroundMusic() built the player right here, in start()
+        }
+        double beforeFrame = (System.nanoTime() - start) / 1e6;
+
+        double musicReady = -1;
+        if (name.equals("sync")) {
+            musicReady = beforeFrame;
+        } else if (name.equals("deferred")) {
+            AssetLoader.backgroundMusic().join(); // requested from the first frame, ready whenever the worker is done
+            musicReady = (System.nanoTime() - start) / 1e6;
+        }
+        // the loader may report that no player can be made without an audio device, the work is timed all the same
+        System.out.printf(Locale.ROOT, "RESULT %.3f %.3f%n", beforeFrame, musicReady);
+        System.exit(0); // the media threads are not daemons
+    }
+
+    // the original synchronous load, made and dropped on the calling thread
+    private static void loadMusicOnThisThread() {
+        try {
+            String musicResourceUri = MusicStartupCheck.class.getResource(MUSIC_PATH).toExternalForm();
+            MediaPlayer player = new MediaPlayer(new Media(musicResourceUri));
+            player.setCycleCount(MediaPlayer.INDEFINITE);
+        }
+        catch (Exception e) {
+            System.err.println("Error loading background music: " + e.getMessage());
+        }
+    }
+
+    // runs one case in a new jvm with the same class path and modules, returns {before frame ms, music ready ms}
+    private static double[] runChild(String name) throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        String modulePath = System.getProperty("jdk.module.path");
+        if (modulePath != null) {
+            command.add("--module-path");
+            command.add(modulePath);
+            command.add("--add-modules");
+            command.add("javafx.controls,javafx.media");
+        }
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(MusicStartupCheck.class.getName());
+        command.add("case=" + name);
+
+        // errors such as having no audio device would repeat every run, only the timings are read
+        Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.DISCARD).start();
+        double[] result = null;
+        try (BufferedReader output = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = output.readLine()) != null) {
+                if (line.startsWith("RESULT ")) {
+                    String[] fields = line.split(" ");
+                    result = new double[] {Double.parseDouble(fields[1]), Double.parseDouble(fields[2])};
+                }
+            }
+        }
+        process.waitFor();
+        if (result == null) {
+            throw new IllegalStateException("Case " + name + " printed no result");
+        }
+        return result;
+    }
+}
@@ -0,0 +1,118 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+
+// runs the software mixer against capture and null sinks, so it can be checked with no audio device:
+// overlapping voices must add up exactly, effect latency must stay under 10 ms, and play() must not allocate
+// usage: java workspace.PcmMixerCheck [plays=2000]
+public class PcmMixerCheck {
+
+    public static void main(String[] args) throws Exception {
+        int plays = 2000;
+        for (String arg : args) {
+            String[] parts = arg.split("=", 2);
+            switch (parts[0]) {
+                case "plays": plays = Integer.parseInt(parts[1]); break;
+                default: System.err.println("Unknown option: " + parts[0]);
+            }
+        }
+        boolean ok = checkMixing();
+        ok &= checkLatencyAndAllocation(plays);
+        System.out.println(ok ? "PASS" : "FAIL");
+        if (!ok) {
+            System.exit(1);
+        }
+    }
+
+    // two effects queued together must come out as the clamped sum of their clips
+    private static boolean checkMixing() throws Exception {
+        short[] wrong = tone(220, 0.1, 24000);
+        short[] correct = tone(660, 0.05, 24000);
+        PcmMixer mixer = new PcmMixer(128, 2, 8);
+        mixer.setClip(SoundEffect.WRONG, wrong);
+        mixer.setClip(SoundEffect.CORRECT, correct);
+        mixer.play(SoundEffect.WRONG);
+        mixer.play(SoundEffect.CORRECT); // both start in the first period
+
+        CaptureAudioSink capture = new CaptureAudioSink(false);
+        mixer.start(capture);
+        Thread.sleep(100);
+        mixer.stop();
+
+        short[] output = capture.getSamples();
+        int mismatches = 0;
+        int clamped = 0;
+        for (int i = 0; i < wrong.length + 1000 && i < output.length; i++) {
+            int sum = (i < wrong.length ? wrong[i] : 0) + (i < correct.length ? correct[i] : 0);
+            int expected = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, sum));
+            if (expected != sum) {
+                clamped++;
+            }
+            if (output[i] != expected) {
+                mismatches++;
+            }
+        }
+        System.out.println("Mixing: " + output.length + " samples captured, " + clamped + " clamped, " + mismatches + " wrong");
+        return output.length > wrong.length && mismatches == 0;
+    }
+
+    // a fast wrong-wrong-correct pattern against a real time sink, then a burst of plays on a counted thread
+    private static boolean checkLatencyAndAllocation(int plays) throws Exception {
+        PcmMixer mixer = new PcmMixer();
+        mixer.setClip(SoundEffect.WRONG, tone(220, 0.15, 8000));
+        mixer.setClip(SoundEffect.CORRECT, tone(660, 0.15, 8000));
+        NullAudioSink sink = new NullAudioSink(true);
+        mixer.start(sink);
+
+        SoundEffect[] pattern = {SoundEffect.WRONG, SoundEffect.WRONG, SoundEffect.CORRECT};
+        for (int i = 0; i < 30; i++) {
+            mixer.play(pattern[i % pattern.length]);
+            Thread.sleep(40);
+        }
+
+        // the warm-up above has loaded every class, so any allocation now would come from play() itself
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < plays; i++) {
+            mixer.play(pattern[i % pattern.length]);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        Thread.sleep(200);
+        mixer.stop();
+
+        // mix latency is play() to the voice's first period being handed to the sink, the buffer comes on top
+        System.out.printf(Locale.ROOT, "Mixer: %d voices started, mix latency avg %.2f ms, max %.2f ms, "
+                        + "plus up to %.2f ms in the output buffer, %d voices restarted, %d plays dropped%n",
+                mixer.getVoicesStarted(), mixer.getAverageLatencyMillis(), mixer.getMaxLatencyMillis(),
+                mixer.getBufferMillis(), mixer.getVoicesRestarted(), mixer.getPlaysDropped());
+        double worst = mixer.getMaxLatencyMillis() + mixer.getBufferMillis();
+        System.out.printf(Locale.ROOT, "Worst effect latency including the output buffer: %.2f ms%n", worst);
+        System.out.println("Bytes allocated by " + plays + " plays: " + allocated);
+        return worst < 10 && allocated == 0;
+    }
+
+    // a sine tone, the same on both channels
+    private static short[] tone(double hertz, double seconds, int amplitude) {
+        int frames = (int) (seconds * PcmMixer.SAMPLE_RATE);
+        short[] samples = new short[frames * PcmMixer.CHANNELS];
+        for (int frame = 0; frame < frames; frame++) {
+            short value = (short) (amplitude * Math.sin(2 * Math.PI * hertz * frame / PcmMixer.SAMPLE_RATE));
+            samples[2 * frame] = value;
+            samples[2 * frame + 1] = value;
+        }
+        return samples;
+    }
+}
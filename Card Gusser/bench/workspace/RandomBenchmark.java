@@ -0,0 +1,73 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.random.RandomGenerator;
+
+// compares generator throughput for raw draws and for whole deck shuffles
+// usage: java workspace.RandomBenchmark [rounds=1000000]
+public class RandomBenchmark {
+
+    private static final String[] ALGORITHMS = {
+        "Random", "SplittableRandom", "L32X64MixRandom", "L64X128MixRandom", "L64X256MixRandom", "Xoroshiro128PlusPlus", "Xoshiro256PlusPlus"
+    };
+
+    private static volatile long sink; // stops the jit from dropping the work
+
+    public static void main(String[] args) {
+        int rounds = 1_000_000;
+        if (args.length > 0) {
+            rounds = Integer.parseInt(args[0].replace("rounds=", ""));
+        }
+
+        System.out.printf(Locale.ROOT, "%-22s %14s %16s%n", "generator", "nextInt ns/op", "shuffle ns/deck");
+        for (String algorithm : ALGORITHMS) {
+            RandomGenerator random = algorithm.equals("Random") ? new Random(7) : RandomStreams.create(algorithm, 7);
+            Deck deck = new Deck(random);
+
+            // warm up, then take the best of three passes
+            drawInts(random, rounds);
+            shuffleDeck(deck, rounds / 10);
+            double bestInt = Double.MAX_VALUE;
+            double bestShuffle = Double.MAX_VALUE;
+            for (int pass = 0; pass < 3; pass++) {
+                long start = System.nanoTime();
+                drawInts(random, rounds);
+                bestInt = Math.min(bestInt, (double) (System.nanoTime() - start) / rounds);
+
+                start = System.nanoTime();
+                shuffleDeck(deck, rounds / 10);
+                bestShuffle = Math.min(bestShuffle, (double) (System.nanoTime() - start) / (rounds / 10));
+            }
+            System.out.printf(Locale.ROOT, "%-22s %14.2f %16.1f%n", algorithm, bestInt, bestShuffle);
+        }
+    }
+
+    private static void drawInts(RandomGenerator random, int rounds) {
+        long total = 0;
+        for (int i = 0; i < rounds; i++) {
+            total += random.nextInt(52);
+        }
+        sink = total;
+    }
+
+    private static void shuffleDeck(Deck deck, int rounds) {
+        long total = 0;
+        for (int i = 0; i < rounds; i++) {
+            deck.shuffle();
+            total += deck.drawCard().getOrdinal();
+        }
+        sink = total;
+    }
+}
@@ -0,0 +1,57 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+// shows that a shoe costs the same to shuffle and deal from whatever its size
+// usage: java workspace.ShoeBenchmark
+public class ShoeBenchmark {
+
+    private static final int[] DECK_COUNTS = {1, 8, 1_000, 100_000};
+    private static final int GAMES = 100_000;
+
+    private static volatile int sink; // stops the jit from dropping the draws
+
+    public static void main(String[] args) {
+        System.out.printf(Locale.ROOT, "%10s %12s %14s %16s%n", "decks", "cards", "shuffle ns", "game deal ns");
+        for (int decks : DECK_COUNTS) {
+            Shoe shoe = new Shoe(decks, new SplittableRandom(3));
+            run(shoe, GAMES); // warm up
+
+            long start = System.nanoTime();
+            for (int i = 0; i < GAMES; i++) {
+                shoe.shuffle();
+            }
+            double shuffleNanos = (double) (System.nanoTime() - start) / GAMES;
+
+            start = System.nanoTime();
+            run(shoe, GAMES);
+            double gameNanos = (double) (System.nanoTime() - start) / GAMES;
+
+            System.out.printf(Locale.ROOT, "%10d %12d %14.1f %16.1f%n", decks, (long) decks * Deck.SIZE, shuffleNanos, gameNanos);
+        }
+    }
+
+    // a reshuffle plus the eleven cards one game draws
+    private static void run(Shoe shoe, int games) {
+        int total = 0;
+        for (int i = 0; i < games; i++) {
+            shoe.shuffle();
+            for (int c = 0; c < 11; c++) {
+                total += shoe.drawCard().getOrdinal();
+            }
+        }
+        sink = total;
+    }
+}
@@ -0,0 +1,65 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+import java.util.Locale;
+import java.util.random.RandomGenerator;
+
+// checks that every card is equally likely at every deck position after a shuffle
+// counts card-by-position over many shuffles and runs a chi-square test on the 52x52 table
+// usage: java workspace.ShuffleUniformityCheck [shuffles=1000000] [rng=L64X128MixRandom] [seed=1]
+public class ShuffleUniformityCheck {
+
+    public static void main(String[] args) {
+        int shuffles = 1_000_000;
+        String algorithm = RandomStreams.DEFAULT_ALGORITHM;
+        long seed = 1;
+        for (String arg : args) {
+            String[] parts = arg.split("=", 2);
+            switch (parts[0]) {
+                case "shuffles": shuffles = Integer.parseInt(parts[1]); break;
+                case "rng": algorithm = parts[1]; break;
+                case "seed": seed = Long.parseLong(parts[1]); break;
+                default: System.err.println("Unknown option: " + parts[0]);
+            }
+        }
+
+        RandomGenerator random = RandomStreams.create(algorithm, seed);
+        Deck deck = new Deck(random);
+        long[][] counts = new long[Deck.SIZE][Deck.SIZE]; // [position][card ordinal]
+        for (int s = 0; s < shuffles; s++) {
+            deck.shuffle();
+            for (int position = 0; position < Deck.SIZE; position++) {
+                counts[position][deck.drawCard().getOrdinal()]++;
+            }
+        }
+
+        // each row and column sums to the shuffle count, so the table has 51 * 51 degrees of freedom
+        double expected = (double) shuffles / Deck.SIZE;
+        double chiSquare = 0;
+        for (long[] row : counts) {
+            for (long observed : row) {
+                double difference = observed - expected;
+                chiSquare += difference * difference / expected;
+            }
+        }
+        int degrees = (Deck.SIZE - 1) * (Deck.SIZE - 1);
+        double z = (chiSquare - degrees) / Math.sqrt(2.0 * degrees);
+        boolean uniform = Math.abs(z) < 4;
+
+        System.out.printf(Locale.ROOT, "%s, %d shuffles: chi-square %.1f on %d degrees of freedom (z = %.2f) -> %s%n",
+                algorithm, shuffles, chiSquare, degrees, z, uniform ? "uniform" : "NOT uniform");
+        if (!uniform) {
+            System.exit(1);
+        }
+    }
+}
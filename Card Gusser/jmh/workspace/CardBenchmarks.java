@@ -0,0 +1,67 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// the card strings shown and loaded on every flip, run like DeckBenchmarks
+// getImageFileName is what GameScene's old getCardImageFilename turned into
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardBenchmarks {
+
+    @Param({"0", "51"})
+    public int ordinal;
+
+    private Card card;
+
+    @Setup
+    public void pickCard() {
+        card = Card.of(ordinal);
+    }
+
+    @Benchmark
+    public String cardToString() {
+        return card.toString();
+    }
+
+    @Benchmark
+    public String imageFileName() {
+        return card.getImageFileName();
+    }
+
+    @Benchmark
+    public String imagePath() {
+        return card.getImagePath();
+    }
+
+    @Benchmark
+    public Card lookUpByRankAndSuit() {
+        return Card.of(card.getRank(), card.getSuit());
+    }
+}
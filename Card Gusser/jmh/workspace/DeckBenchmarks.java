@@ -0,0 +1,63 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// jmh benchmarks for the game's hot paths, one class per area (DeckBenchmarks, LevelBenchmarks,
+// CardBenchmarks, GuessValuesBenchmarks, MetricsBenchmarks). there is no build file, jmh/README.md has the jars
+// and the exact javac and java commands, run with -prof gc for gc.alloc.rate.norm (bytes allocated per operation)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeckBenchmarks {
+
+    private final Deck deck = new Deck(42);
+
+    @Benchmark
+    public long shuffle() {
+        deck.shuffle();
+        return deck.getShuffleCount();
+    }
+
+    @Benchmark
+    public Card drawCard() {
+        if (deck.cardsRemaining() == 0) {
+            deck.shuffle(); // keep drawCard from printing its reshuffle message
+        }
+        return deck.drawCard();
+    }
+
+    // what one game deals: a shuffle and eleven cards
+    @Benchmark
+    public int dealGame() {
+        deck.shuffle();
+        int total = 0;
+        for (int i = 0; i < 11; i++) {
+            total += deck.drawCard().getOrdinal();
+        }
+        return total;
+    }
+}
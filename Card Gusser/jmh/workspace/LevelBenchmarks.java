@@ -0,0 +1,85 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// level creation (which draws its cards) and card access, run like DeckBenchmarks
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LevelBenchmarks {
+
+    // level 10 deals two cards, the others one
+    @Param({"1", "10"})
+    public int levelNumber;
+
+    private final Deck deck = new Deck(42);
+    private Level level;
+
+    @Setup
+    public void createLevel() {
+        level = new Level(deck, levelNumber);
+    }
+
+    @Benchmark
+    public Level newLevel() {
+        if (deck.cardsRemaining() < 2) {
+            deck.shuffle();
+        }
+        return new Level(deck, levelNumber);
+    }
+
+    // what the engine does each level: redeal into the one level object
+    @Benchmark
+    public Level resetLevel() {
+        if (deck.cardsRemaining() < 2) {
+            deck.shuffle();
+        }
+        level.reset(levelNumber);
+        return level;
+    }
+
+    @Benchmark
+    public List<Card> getCardsToGuess() {
+        return level.getCardsToGuess();
+    }
+
+    // the size / get pattern through the list view
+    @Benchmark
+    public Card currentCard() {
+        List<Card> cards = level.getCardsToGuess();
+        return cards.get(cards.size() - 1);
+    }
+
+    // the indexed access the engine uses on every guess
+    @Benchmark
+    public Card cardAt() {
+        return level.cardAt(level.cardCount() - 1);
+    }
+}
@@ -0,0 +1,88 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// what recording a metric costs with metrics off (the default) and on, run like DeckBenchmarks
+// the off numbers should match an empty method, the shuffles show the cost inside real code
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsBenchmarks {
+
+    private static final String METRICS_ON = "-Dcardguesser.metrics=true";
+
+    private final Metrics.Counter counter = Metrics.counter("bench.counter");
+    private final Metrics.Histogram histogram = Metrics.histogram("bench.histogram");
+    private final Deck deck = new Deck(42);
+    private long value = 12_345;
+
+    @Benchmark
+    public void counterOff() {
+        counter.increment();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = METRICS_ON)
+    public void counterOn() {
+        counter.increment();
+    }
+
+    @Benchmark
+    public void histogramOff() {
+        histogram.record(value++);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = METRICS_ON)
+    public void histogramOn() {
+        histogram.record(value++);
+    }
+
+    @Benchmark
+    public void timedOff() {
+        histogram.recordSince(Metrics.now());
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = METRICS_ON)
+    public void timedOn() {
+        histogram.recordSince(Metrics.now());
+    }
+
+    @Benchmark
+    public Deck shuffleOff() {
+        deck.shuffle();
+        return deck;
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = METRICS_ON)
+    public Deck shuffleOn() {
+        deck.shuffle();
+        return deck;
+    }
+}
@@ -0,0 +1,206 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+import javafx.scene.image.Image;
+import javafx.scene.media.Media;
+import javafx.scene.media.MediaPlayer;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public class AssetLoader {
+
+    private static final String BACKGROUND_PATH = "/workspace/background/background.jpg";
+    private static final String MUSIC_PATH = "/workspace/music/launch-bg-music.mp3";
+
+    private static ExecutorService workers;
+
+    // one future per asset, completed by the worker threads
+    private static CompletableFuture<Image> backgroundImage;
+    private static CompletableFuture<Image> cardBackImage;
+    private static CompletableFuture<Void> cardFaces;
+    private static CompletableFuture<Image> cardAtlas;
+    private static CompletableFuture<Void> sounds;
+    private static CompletableFuture<Void> allAssets;
+    // music is not part of startup, it is only loaded when asked for, see backgroundMusic()
+    private static CompletableFuture<MediaPlayer> backgroundMusic;
+
+    private static long startNanos;
+    private static final Metrics.Histogram ALL_ASSETS_TIME = Metrics.histogram("startup.assets");
+    private static final Metrics.Histogram MUSIC_LOAD_TIME = Metrics.histogram("music.load");
+
+    // size the background is decoded at, 0 means source resolution
+    private static double backgroundWidth;
+    private static double backgroundHeight;
+    private static final AtomicInteger backgroundDecodes = new AtomicInteger();
+
+    // starts loading every asset in parallel, safe to call more than once
+    public static synchronized void start() {
+        if (workers != null) {
+            return;
+        }
+        startNanos = System.nanoTime();
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        AtomicInteger threadCount = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "asset-loader-" + threadCount.incrementAndGet());
+            thread.setDaemon(true); // never keep the app alive just for loading
+            return thread;
+        });
+
+        // the big and first-needed assets go in first
+        backgroundImage = CompletableFuture.supplyAsync(AssetLoader::loadBackground, workers);
+        cardBackImage = CompletableFuture.supplyAsync(CardImageCache::getBackImage, workers);
+        sounds = CompletableFuture.runAsync(SoundManager::loadSounds, workers);
+
+        if (CardAtlas.isEnabled()) {
+            // the atlas holds every face, so there is nothing else to decode
+            cardAtlas = CompletableFuture.supplyAsync(CardAtlas::getSheet, workers);
+            cardFaces = CompletableFuture.completedFuture(null);
+        } else {
+            cardAtlas = CompletableFuture.completedFuture(null);
+            // every face is decoded as its own task so they spread over all workers
+            CompletableFuture<?>[] faceTasks = new CompletableFuture<?>[CardImageCache.BACK_KEY];
+            for (int key = 0; key < CardImageCache.BACK_KEY; key++) {
+                final int cardKey = key;
+                faceTasks[key] = CompletableFuture.runAsync(() -> CardImageCache.get(cardKey), workers);
+            }
+            cardFaces = CompletableFuture.allOf(faceTasks);
+        }
+
+        allAssets = CompletableFuture.allOf(backgroundImage, cardBackImage, sounds, cardFaces, cardAtlas);
+        allAssets.whenComplete((ignored, error) -> ALL_ASSETS_TIME.record(nanosSinceStart()));
+    }
+
+    // decodes the faces of cards about to be shown on the worker threads, so revealing them
+    // on the fx thread is a cache hit. the keys are read now, the list may be reused later
+    public static CompletableFuture<Void> prefetchCards(List<Card> cards) {
+        start();
+        if (CardAtlas.isEnabled()) {
+            return CompletableFuture.completedFuture(null); // every face is already in the sheet
+        }
+        int[] keys = new int[cards.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = CardImageCache.keyFor(cards.get(i));
+        }
+        return CompletableFuture.runAsync(() -> {
+            for (int key : keys) {
+                CardImageCache.get(key);
+            }
+        }, workers);
+    }
+
+    // runs other slow work on the loader's worker threads, so it never blocks the fx thread
+    public static <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+        start();
+        return CompletableFuture.supplyAsync(task, workers);
+    }
+
+    // sets the size the background is decoded at, must be called before start()
+    public static synchronized void setBackgroundSize(double width, double height) {
+        backgroundWidth = width;
+        backgroundHeight = height;
+    }
+
+    public static CompletableFuture<Image> backgroundImage() {
+        start();
+        return backgroundImage;
+    }
+
+    public static CompletableFuture<Image> cardBackImage() {
+        start();
+        return cardBackImage;
+    }
+
+    public static CompletableFuture<Void> cardFaces() {
+        start();
+        return cardFaces;
+    }
+
+    // completes with null when atlas mode is off
+    public static CompletableFuture<Image> cardAtlas() {
+        start();
+        return cardAtlas;
+    }
+
+    public static CompletableFuture<Void> sounds() {
+        start();
+        return sounds;
+    }
+
+    // starts loading the music player on a worker the first time it is asked for, so startup never waits on it
+    // the player streams the mp3 from its resource as it plays rather than decoding it up front
+    public static synchronized CompletableFuture<MediaPlayer> backgroundMusic() {
+        start();
+        if (backgroundMusic == null) {
+            long requested = Metrics.now();
+            backgroundMusic = CompletableFuture.supplyAsync(AssetLoader::loadMusic, workers);
+            backgroundMusic.thenRun(() -> MUSIC_LOAD_TIME.recordSince(requested));
+        }
+        return backgroundMusic;
+    }
+
+    // forgets the music player so its memory can be reclaimed, the caller disposes it
+    // the next backgroundMusic() call loads it again
+    public static synchronized void releaseBackgroundMusic() {
+        backgroundMusic = null;
+    }
+
+    public static CompletableFuture<Void> allAssets() {
+        start();
+        return allAssets;
+    }
+
+    // how many times the background has been decoded, stays at 1 however many games are played
+    public static int getBackgroundDecodeCount() {
+        return backgroundDecodes.get();
+    }
+
+    // nanoseconds since loading started
+    public static long nanosSinceStart() {
+        return System.nanoTime() - startNanos;
+    }
+
+    private static Image loadBackground() {
+        try (InputStream bgStream = AssetLoader.class.getResourceAsStream(BACKGROUND_PATH)) {
+            if (bgStream == null) {
+                System.err.println("Background image resource not found!");
+                return null;
+            }
+            backgroundDecodes.incrementAndGet();
+            return new Image(bgStream, backgroundWidth, backgroundHeight, false, true);
+        }
+        catch (Exception e) {
+            System.err.println("Error loading background image: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static MediaPlayer loadMusic() {
+        try {
+            String musicResourceUri = AssetLoader.class.getResource(MUSIC_PATH).toExternalForm();
+            MediaPlayer player = new MediaPlayer(new Media(musicResourceUri));
+            player.setCycleCount(MediaPlayer.INDEFINITE); // make it loop forever
+            return player;
+        }
+        catch (Exception e) {
+            System.err.println("Error loading background music: " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.LineUnavailableException;
+
+// where the software mixer sends its audio: a real sound line, or a null or capture sink
+// so the mixer can run on machines with no audio device
+public interface AudioSink {
+
+    // opens the output, bufferBytes is how much audio it may hold before write blocks
+    void open(AudioFormat format, int bufferBytes) throws LineUnavailableException;
+
+    // writes mixed audio, blocking like a SourceDataLine while the output is full
+    void write(byte[] data, int offset, int length);
+
+    void close();
+}
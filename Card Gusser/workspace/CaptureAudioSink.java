@@ -0,0 +1,49 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+import java.util.Arrays;
+
+// keeps everything the mixer writes, for checking its output without an audio device
+public class CaptureAudioSink extends NullAudioSink {
+
+    private byte[] captured = new byte[1 << 16];
+    private int capturedLength;
+
+    public CaptureAudioSink(boolean realTime) {
+        super(realTime);
+    }
+
+    @Override
+    public synchronized void write(byte[] data, int offset, int length) {
+        if (capturedLength + length > captured.length) {
+            captured = Arrays.copyOf(captured, Math.max(capturedLength + length, captured.length * 2));
+        }
+        System.arraycopy(data, offset, captured, capturedLength, length);
+        capturedLength += length;
+        super.write(data, offset, length);
+    }
+
+    // the captured audio as 16 bit little endian samples, channels interleaved
+    public synchronized short[] getSamples() {
+        short[] samples = new short[capturedLength / 2];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = (short) ((captured[2 * i] & 0xFF) | (captured[2 * i + 1] << 8));
+        }
+        return samples;
+    }
+
+    @Override
+    public String toString() {
+        return "capture sink";
+    }
+}
@@ -12,15 +12,70 @@
 package workspace;
 
 public class Card {
-    // card rank (2-14, where 11=J, 12=Q, 13=K, 14=A)
+    // ordinals: 0-51 are the faces (suit * 13 + rank - 2), then the two jokers
+    public static final int JOKER_BLACK = 52;
+    public static final int JOKER_RED = 53;
+    public static final int COUNT = 54;
+
+    // folder the card pngs are loaded from
+    public static final String IMAGE_FOLDER = "/workspace/Card_images/";
+
+    private static final String[] SUIT_NAMES = {"Hearts", "Diamonds", "Clubs", "Spades"};
+    private static final String[] RANK_NAMES = {"2", "3", "4", "5", "6", "7", "8", "9", "10", "Jack", "Queen", "King", "Ace"};
+
+    // the only card objects that ever exist, indexed by ordinal
+    private static final Card[] CARDS = createCards();
+
+    // card rank (2-14, where 11=J, 12=Q, 13=K, 14=A), 0 for jokers
     private final int rank;
-    // card suit (0=Hearts, 1=Diamonds, 2=Clubs, 3=Spades)
+    // card suit (0=Hearts, 1=Diamonds, 2=Clubs, 3=Spades), -1 for jokers
     private final int suit;
+    private final int ordinal;
+    // strings worked out once, like "Ace of Spades" and "ace_of_spades.png"
+    private final String name;
+    private final String imageFileName;
+    private final String imagePath;
 
-    // constructor to create a card
-    public Card(int rank, int suit) {
+    // cards are only made for the table, use Card.of to get one
+    private Card(int rank, int suit, int ordinal, String name, String imageFileName) {
         this.rank = rank;
         this.suit = suit;
+        this.ordinal = ordinal;
+        this.name = name;
+        this.imageFileName = imageFileName;
+        this.imagePath = IMAGE_FOLDER + imageFileName;
+    }
+
+    // gets the card for an ordinal (0-53)
+    public static Card of(int ordinal) {
+        if (ordinal < 0 || ordinal >= COUNT) {
+            throw new IllegalArgumentException("No card with ordinal " + ordinal);
+        }
+        return CARDS[ordinal];
+    }
+
+    // gets the face card with this rank (2-14) and suit (0-3)
+    public static Card of(int rank, int suit) {
+        if (rank < 2 || rank > 14 || suit < 0 || suit > 3) {
+            throw new IllegalArgumentException("No card with rank " + rank + " and suit " + suit);
+        }
+        return CARDS[suit * 13 + rank - 2];
+    }
+
+    private static Card[] createCards() {
+        Card[] table = new Card[COUNT];
+        for (int suit = 0; suit <= 3; suit++) { // 0-3 for suits
+            for (int rank = 2; rank <= 14; rank++) { // 2-14 for ranks
+                int ordinal = suit * 13 + rank - 2;
+                String rankName = RANK_NAMES[rank - 2];
+                String suitName = SUIT_NAMES[suit];
+                String fileName = rankName.toLowerCase() + "_of_" + suitName.toLowerCase() + ".png";
+                table[ordinal] = new Card(rank, suit, ordinal, rankName + " of " + suitName, fileName);
+            }
+        }
+        table[JOKER_BLACK] = new Card(0, -1, JOKER_BLACK, "Black Joker", "0_joker_black.png");
+        table[JOKER_RED] = new Card(0, -1, JOKER_RED, "Red Joker", "0_joker_red.png");
+        return table;
     }
 
     // gets the rank
@@ -33,43 +88,44 @@ public class Card {
         return suit;
     }
 
-    // returns a string representation like "Ace of Spades"
-    @Override
-    public String toString() {
-        String rankString;
-        // convert rank number to name
-        switch (rank) {
-            case 11: rankString = "Jack"; break;
-            case 12: rankString = "Queen"; break;
-            case 13: rankString = "King"; break;
-            case 14: rankString = "Ace"; break;
-            default: rankString = Integer.toString(rank); // for 2-10
-        }
+    // gets the position of this card in the table, also its image cache key
+    public int getOrdinal() {
+        return ordinal;
+    }
 
-        String suitString;
-        // convert suit number to name
-        switch (suit) {
-            case 0: suitString = "Hearts"; break;
-            case 1: suitString = "Diamonds"; break;
-            case 2: suitString = "Clubs"; break;
-            case 3: suitString = "Spades"; break;
-            default: suitString = "Unknown";
-        }
+    public boolean isJoker() {
+        return ordinal >= JOKER_BLACK;
+    }
+
+    // gets the display name like "Ace of Spades"
+    public String getName() {
+        return name;
+    }
+
+    // gets the image file name like "ace_of_spades.png"
+    public String getImageFileName() {
+        return imageFileName;
+    }
+
+    // gets the resource path of the image
+    public String getImagePath() {
+        return imagePath;
+    }
 
-        return rankString + " of " + suitString;
+    // returns the display name, no string is built per call
+    @Override
+    public String toString() {
+        return name;
     }
 
-    // checks if two cards are the same (same rank and suit)
+    // there is one object per card so identity is enough, kept for callers using equals
     @Override
     public boolean equals(Object obj) {
-        if (this == obj) {
-            return true;
-        }
-        if (obj == null || getClass() != obj.getClass()) {
-            return false;
-        }
-        Card other = (Card) obj;
-        // cards are equal if rank and suit match
-        return this.rank == other.rank && this.suit == other.suit;
+        return this == obj;
+    }
+
+    @Override
+    public int hashCode() {
+        return ordinal;
     }
 }
\ No newline at end of file
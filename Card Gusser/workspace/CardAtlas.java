@@ -0,0 +1,156 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+import javafx.scene.image.WritablePixelFormat;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.IntBuffer;
+
+public class CardAtlas {
+
+    // every card is packed into a cell of this size (twice the on-screen card size)
+    public static final int CELL_WIDTH = 240;
+    public static final int CELL_HEIGHT = 360;
+    public static final int COLUMNS = 8;
+    public static final int ROWS = (CardImageCache.KEY_COUNT + COLUMNS - 1) / COLUMNS;
+
+    // bump the version whenever the layout above changes so old sheets are rebuilt
+    private static final String SHEET_NAME = "card-atlas-v1-" + CELL_WIDTH + "x" + CELL_HEIGHT + ".png";
+
+    // turned on at launch with -Dcardguesser.atlas=true
+    private static final boolean ENABLED = Boolean.getBoolean("cardguesser.atlas");
+    private static final Metrics.Histogram BUILD_TIME = Metrics.histogram("atlas.build");
+
+    // viewport of each card inside the sheet, indexed by cache key
+    private static final Rectangle2D[] viewports = createViewports();
+
+    private static Image sheet;
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    // gets the packed sheet, loading it from disk or building it on first run
+    public static synchronized Image getSheet() {
+        if (sheet == null) {
+            sheet = loadSavedSheet();
+            if (sheet == null) {
+                WritableImage built = buildSheet();
+                saveSheet(built);
+                sheet = built;
+            }
+        }
+        return sheet;
+    }
+
+    // gets the viewport for a card, or the back if the card is invalid
+    public static Rectangle2D viewportFor(Card card) {
+        int key = CardImageCache.keyFor(card);
+        if (key < 0) {
+            return viewports[CardImageCache.BACK_KEY];
+        }
+        return viewports[key];
+    }
+
+    // gets the viewport for a cache key
+    public static Rectangle2D viewportFor(int key) {
+        return viewports[key];
+    }
+
+    private static Rectangle2D[] createViewports() {
+        Rectangle2D[] rects = new Rectangle2D[CardImageCache.KEY_COUNT];
+        for (int key = 0; key < rects.length; key++) {
+            rects[key] = new Rectangle2D((key % COLUMNS) * CELL_WIDTH, (key / COLUMNS) * CELL_HEIGHT, CELL_WIDTH, CELL_HEIGHT);
+        }
+        return rects;
+    }
+
+    // decodes each card at cell size and copies it into one big image
+    private static WritableImage buildSheet() {
+        long start = Metrics.now();
+        WritableImage built = new WritableImage(COLUMNS * CELL_WIDTH, ROWS * CELL_HEIGHT);
+        int[] cellPixels = new int[CELL_WIDTH * CELL_HEIGHT];
+        WritablePixelFormat<IntBuffer> format = PixelFormat.getIntArgbInstance();
+
+        for (int key = 0; key < CardImageCache.KEY_COUNT; key++) {
+            String resourcePath = CardImageCache.resourcePathFor(key);
+            try (InputStream imageStream = CardAtlas.class.getResourceAsStream(resourcePath)) {
+                if (imageStream == null) {
+                    System.err.println("Image resource not found: " + resourcePath);
+                    continue; // leave the cell transparent
+                }
+                Image card = new Image(imageStream, CELL_WIDTH, CELL_HEIGHT, false, true);
+                card.getPixelReader().getPixels(0, 0, CELL_WIDTH, CELL_HEIGHT, format, cellPixels, 0, CELL_WIDTH);
+                Rectangle2D cell = viewports[key];
+                built.getPixelWriter().setPixels((int) cell.getMinX(), (int) cell.getMinY(), CELL_WIDTH, CELL_HEIGHT, format, cellPixels, 0, CELL_WIDTH);
+            }
+            catch (Exception e) {
+                System.err.println("Error packing image " + resourcePath + ": " + e.getMessage());
+            }
+        }
+        BUILD_TIME.recordSince(start);
+        return built;
+    }
+
+    // reads the sheet saved by an earlier run, null if missing or out of date
+    private static Image loadSavedSheet() {
+        File file = sheetFile();
+        if (!file.isFile()) {
+            return null;
+        }
+        try (InputStream in = new FileInputStream(file)) {
+            Image saved = new Image(in);
+            if (saved.isError() || saved.getWidth() != COLUMNS * CELL_WIDTH || saved.getHeight() != ROWS * CELL_HEIGHT) {
+                return null;
+            }
+            return saved;
+        }
+        catch (Exception e) {
+            System.err.println("Error loading card atlas: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // writes the sheet to the user cache folder so later runs decode a single file
+    private static void saveSheet(WritableImage built) {
+        int width = (int) built.getWidth();
+        int height = (int) built.getHeight();
+        int[] pixels = new int[width * height];
+        PixelReader reader = built.getPixelReader();
+        reader.getPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), pixels, 0, width);
+
+        BufferedImage output = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        output.setRGB(0, 0, width, height, pixels, 0, width);
+        File file = sheetFile();
+        try {
+            file.getParentFile().mkdirs();
+            ImageIO.write(output, "png", file);
+        }
+        catch (Exception e) {
+            System.err.println("Error saving card atlas: " + e.getMessage()); // still usable from memory
+        }
+    }
+
+    private static File sheetFile() {
+        return new File(System.getProperty("user.home"), ".cardguesser" + File.separator + SHEET_NAME);
+    }
+}
@@ -0,0 +1,112 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+import java.util.random.RandomGenerator;
+
+// counts every card revealed since the shuffle and always guesses the value with the most unseen cards
+// (ties go to the lowest value), and times its hints with the exact solver: for each card it asks
+// whether to hint, and after how many wrong guesses, for the best expected score over the rest of the game
+public class CardCountingStrategy implements Strategy {
+
+    // how long a wrong guess is assumed to take, this sets how many guesses fit in the timer
+    public static final int DEFAULT_GUESS_SECONDS = 2;
+
+    private final GuessCandidates candidates = new GuessCandidates();
+    private final ExpectedScoreSolver easySolver;
+    private final ExpectedScoreSolver hardSolver;
+    private int hintAfterWrongGuesses = ExpectedScoreSolver.NO_HINT;
+    private int wrongGuesses;
+
+    public CardCountingStrategy() {
+        this(DEFAULT_GUESS_SECONDS);
+    }
+
+    public CardCountingStrategy(int guessSeconds) {
+        this(guessSeconds, LevelSchedule.getDefault());
+    }
+
+    // the solvers must play the same level schedule as the engine
+    public CardCountingStrategy(int guessSeconds, LevelSchedule schedule) {
+        easySolver = solverFor("Easy", guessSeconds, schedule);
+        hardSolver = solverFor("Hard", guessSeconds, schedule);
+    }
+
+    // null when the schedule cannot be solved, like an endless one
+    private static ExpectedScoreSolver solverFor(String difficulty, int guessSeconds, LevelSchedule schedule) {
+        try {
+            return new ExpectedScoreSolver(difficulty, guessSeconds, schedule);
+        }
+        catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void newCard(VisibleGameState state) {
+        candidates.reset();
+        wrongGuesses = 0;
+        ExpectedScoreSolver solver = state.isEasyMode() ? easySolver : hardSolver;
+        if (solver != null) {
+            try {
+                hintAfterWrongGuesses = solver.bestHintPolicy(state);
+                return;
+            }
+            catch (IllegalArgumentException e) {
+                // shoe too big for the solver, fall through
+            }
+        }
+        // no solver for this game: only take hints that cost no score
+        boolean hintIsFree = state.getGuessIndex() < state.getCardsInLevel() - 1;
+        hintAfterWrongGuesses = hintIsFree ? 0 : ExpectedScoreSolver.NO_HINT;
+    }
+
+    @Override
+    public int nextMove(VisibleGameState state, RandomGenerator random) {
+        if (wrongGuesses == hintAfterWrongGuesses && state.getHintsRemaining() > 0 && state.isHintAllowed()
+                && state.getHintCategory() == GameEngine.HINT_NONE) {
+            return USE_HINT;
+        }
+
+        int bestValue = -1;
+        int bestUnseen = -1;
+        for (int value = GuessCandidates.firstValue(state); value <= GuessCandidates.lastValue(state); value++) {
+            if (!candidates.isPossible(state, value)) {
+                continue;
+            }
+            int unseen = unseenCount(state, value);
+            if (unseen > bestUnseen) {
+                bestValue = value;
+                bestUnseen = unseen;
+            }
+        }
+        if (bestValue < 0) {
+            return candidates.pickRandom(state, random);
+        }
+        return bestValue;
+    }
+
+    @Override
+    public void guessRejected(int guessedValue) {
+        candidates.reject(guessedValue);
+        wrongGuesses++;
+    }
+
+    // cards of a suit (13 per deck) or rank (4 per deck) not yet seen since the shuffle
+    private int unseenCount(VisibleGameState state, int value) {
+        int decks = state.getDeckCount();
+        if (state.isEasyMode()) {
+            return 13 * decks - state.getRevealedSuitCount(value);
+        }
+        return 4 * decks - state.getRevealedRankCount(value);
+    }
+}
@@ -0,0 +1,313 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+import javafx.scene.image.Image;
+
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class CardImageCache {
+
+    // how decoded images are kept once loaded
+    public enum EvictionPolicy {
+        STRONG, // keep every image forever (55 images at most)
+        LRU,    // keep only the most recently used images
+        SOFT    // keep images until the gc needs the memory back
+    }
+
+    // decode sizes for card images, picked from the on-screen card size and the screen scale
+    public enum Tier {
+        SMALL(120, 180),
+        MEDIUM(240, 360),
+        LARGE(360, 540),
+        FULL(0, 0); // source resolution (500x726 for the faces)
+
+        private final int width;
+        private final int height;
+
+        Tier(int width, int height) {
+            this.width = width;
+            this.height = height;
+        }
+
+        public int getWidth() {
+            return width;
+        }
+
+        public int getHeight() {
+            return height;
+        }
+
+        // smallest tier that still covers the card at its real pixel size on screen
+        public static Tier pick(double displayWidth, double displayHeight, double outputScale) {
+            double neededWidth = displayWidth * outputScale;
+            double neededHeight = displayHeight * outputScale;
+            for (Tier tier : values()) {
+                if (tier != FULL && tier.width >= neededWidth && tier.height >= neededHeight) {
+                    return tier;
+                }
+            }
+            return FULL;
+        }
+    }
+
+    // cache keys: the card ordinals (faces, then the jokers) followed by the back
+    public static final int JOKER_BLACK_KEY = Card.JOKER_BLACK;
+    public static final int JOKER_RED_KEY = Card.JOKER_RED;
+    public static final int BACK_KEY = Card.COUNT;
+    public static final int KEY_COUNT = Card.COUNT + 1;
+
+    private static final String BACK_FILENAME = "0_back_of_card.png";
+    private static final String BACK_PATH = Card.IMAGE_FOLDER + BACK_FILENAME;
+
+    // policy can be picked at launch with -Dcardguesser.imageCache=STRONG|LRU|SOFT
+    private static EvictionPolicy policy = readPolicy();
+    private static int lruCapacity = Integer.getInteger("cardguesser.imageCache.lruCapacity", 16);
+    private static Tier tier = Tier.FULL;
+
+    // storage for each policy, only the one matching the current policy is used
+    private static final Image[] strongImages = new Image[KEY_COUNT];
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final SoftReference<Image>[] softImages = new SoftReference[KEY_COUNT];
+    private static LinkedHashMap<Integer, Image> lruImages = createLruMap();
+
+    // source pixel size of each image, read from the png header when it is first decoded
+    private static final int[] sourceWidths = new int[KEY_COUNT];
+    private static final int[] sourceHeights = new int[KEY_COUNT];
+
+    // counters
+    private static final Metrics.Counter HITS = Metrics.counter("image.cache.hit");
+    private static final Metrics.Counter MISSES = Metrics.counter("image.cache.miss");
+    private static final Metrics.Histogram DECODE_TIME = Metrics.histogram("image.decode");
+
+    // gets the face image for a card, or the back if the card is invalid
+    public static Image getCardImage(Card card) {
+        int key = keyFor(card);
+        if (key < 0) {
+            return getBackImage();
+        }
+        return get(key);
+    }
+
+    // gets the card back image
+    public static Image getBackImage() {
+        return get(BACK_KEY);
+    }
+
+    // gets one of the joker images
+    public static Image getJokerImage(boolean red) {
+        if (red) {
+            return get(JOKER_RED_KEY);
+        }
+        return get(JOKER_BLACK_KEY);
+    }
+
+    // gets the image for a cache key, decoding it on a miss
+    public static Image get(int key) {
+        if (key < 0 || key >= KEY_COUNT) {
+            return null;
+        }
+        synchronized (CardImageCache.class) {
+            Image image = lookup(key);
+            if (image != null) {
+                HITS.increment();
+                return image;
+            }
+        }
+        MISSES.increment();
+        // decode outside the lock so worker threads can decode different cards in parallel
+        Image decoded = decode(key);
+        if (decoded == null) {
+            return null;
+        }
+        synchronized (CardImageCache.class) {
+            Image existing = lookup(key);
+            if (existing != null) {
+                return existing; // another thread finished first, keep a single copy
+            }
+            store(key, decoded);
+            return decoded;
+        }
+    }
+
+    // changes the eviction policy, dropping anything already cached
+    public static synchronized void setEvictionPolicy(EvictionPolicy newPolicy, int newLruCapacity) {
+        policy = newPolicy;
+        lruCapacity = Math.max(1, newLruCapacity);
+        clear();
+    }
+
+    // changes the decode size, dropping anything decoded at the old size
+    public static synchronized void setTier(Tier newTier) {
+        if (newTier != tier) {
+            tier = newTier;
+            clear();
+        }
+    }
+
+    public static synchronized Tier getTier() {
+        return tier;
+    }
+
+    public static synchronized EvictionPolicy getEvictionPolicy() {
+        return policy;
+    }
+
+    // drops all cached images
+    public static synchronized void clear() {
+        for (int key = 0; key < KEY_COUNT; key++) {
+            strongImages[key] = null;
+            softImages[key] = null;
+        }
+        lruImages = createLruMap();
+    }
+
+    // maps a card to its cache key, -1 if there is no card
+    public static int keyFor(Card card) {
+        if (card == null) {
+            return -1;
+        }
+        return card.getOrdinal();
+    }
+
+    // gets the filename for a cache key, like "queen_of_hearts.png"
+    public static String filenameFor(int key) {
+        if (key == BACK_KEY) {
+            return BACK_FILENAME;
+        }
+        return Card.of(key).getImageFileName();
+    }
+
+    // gets the resource path for a cache key, precomputed so decoding builds no strings
+    public static String resourcePathFor(int key) {
+        if (key == BACK_KEY) {
+            return BACK_PATH;
+        }
+        return Card.of(key).getImagePath();
+    }
+
+    // bytes held by the decoded images that are currently cached (4 bytes per pixel)
+    public static synchronized long residentBytes() {
+        long bytes = 0;
+        for (int key = 0; key < KEY_COUNT; key++) {
+            Image image = lookup(key);
+            if (image != null) {
+                bytes += (long) image.getWidth() * (long) image.getHeight() * 4;
+            }
+        }
+        return bytes;
+    }
+
+    // bytes the currently cached images would hold if decoded at source resolution
+    public static synchronized long sourceBytes() {
+        long bytes = 0;
+        for (int key = 0; key < KEY_COUNT; key++) {
+            if (lookup(key) != null) {
+                bytes += (long) sourceWidths[key] * sourceHeights[key] * 4;
+            }
+        }
+        return bytes;
+    }
+
+    private static Image lookup(int key) {
+        switch (policy) {
+            case LRU:
+                return lruImages.get(key); // get() refreshes the access order
+            case SOFT:
+                SoftReference<Image> ref = softImages[key];
+                if (ref != null) {
+                    return ref.get();
+                }
+                return null;
+            default:
+                return strongImages[key];
+        }
+    }
+
+    private static void store(int key, Image image) {
+        switch (policy) {
+            case LRU:
+                lruImages.put(key, image);
+                break;
+            case SOFT:
+                softImages[key] = new SoftReference<>(image);
+                break;
+            default:
+                strongImages[key] = image;
+        }
+    }
+
+    // reads and decodes the png for a key at the current tier size
+    private static Image decode(int key) {
+        String resourcePath = resourcePathFor(key);
+        Tier decodeTier = getTier();
+        long start = Metrics.now();
+        try (InputStream resourceStream = CardImageCache.class.getResourceAsStream(resourcePath)) {
+            if (resourceStream == null) {
+                System.err.println("Image resource not found: " + resourcePath);
+                return null;
+            }
+            if (sourceWidths[key] == 0) {
+                readSourceSize(key, resourcePath);
+            }
+            // the decoder scales while decoding, so the full-size pixels are never held
+            // the ratio is kept, a face fits inside the tier box rather than being stretched to it
+            return new Image(new BufferedInputStream(resourceStream), decodeTier.getWidth(), decodeTier.getHeight(), true, true);
+        }
+        catch (Exception e) {
+            System.err.println("Error loading image " + resourcePath + ": " + e.getMessage());
+            return null;
+        }
+        finally {
+            DECODE_TIME.recordSince(start);
+        }
+    }
+
+    // reads the source size from the header on its own stream, only the first time a key is decoded
+    // a jpeg's size can sit behind large exif segments, so the decode stream is never marked and rewound
+    private static void readSourceSize(int key, String resourcePath) {
+        try (InputStream in = new BufferedInputStream(CardImageCache.class.getResourceAsStream(resourcePath))) {
+            int[] sourceSize = ImageHeader.readSize(in);
+            if (sourceSize != null) {
+                sourceWidths[key] = sourceSize[0];
+                sourceHeights[key] = sourceSize[1];
+            }
+        }
+        catch (Exception e) {
+            // only sourceBytes() uses the source size, the image still decodes
+        }
+    }
+
+    private static LinkedHashMap<Integer, Image> createLruMap() {
+        return new LinkedHashMap<>(KEY_COUNT, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Image> eldest) {
+                return size() > lruCapacity;
+            }
+        };
+    }
+
+    private static EvictionPolicy readPolicy() {
+        String value = System.getProperty("cardguesser.imageCache", "STRONG");
+        try {
+            return EvictionPolicy.valueOf(value.trim().toUpperCase());
+        }
+        catch (IllegalArgumentException e) {
+            System.err.println("Unknown image cache policy: " + value + ", using STRONG");
+            return EvictionPolicy.STRONG;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+import java.util.random.RandomGenerator;
+
+// guesses at random, but knows what a hint is worth: it takes one whenever it costs no score
+// (a card that is not the last of its level), and on a last card only after a wrong guess,
+// when the hinted color (easy) or range (hard) would still rule out some of the values left
+public class ColorHintStrategy implements Strategy {
+
+    private final GuessCandidates candidates = new GuessCandidates();
+    private int wrongGuesses;
+
+    @Override
+    public void newCard(VisibleGameState state) {
+        candidates.reset();
+        wrongGuesses = 0;
+    }
+
+    @Override
+    public int nextMove(VisibleGameState state, RandomGenerator random) {
+        if (state.getHintsRemaining() > 0 && state.isHintAllowed() && state.getHintCategory() == GameEngine.HINT_NONE) {
+            boolean hintIsFree = state.getGuessIndex() < state.getCardsInLevel() - 1;
+            if (hintIsFree || (wrongGuesses > 0 && candidates.spansHintCategories(state))) {
+                return USE_HINT;
+            }
+        }
+        return candidates.pickRandom(state, random);
+    }
+
+    @Override
+    public void guessRejected(int guessedValue) {
+        candidates.reject(guessedValue);
+        wrongGuesses++;
+    }
+}
@@ -0,0 +1,198 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+// a deck many threads can draw from at once without locks
+// each shuffle is an epoch: a fixed card order plus an atomic cursor, so every position is handed out once
+// the first thread to claim an epoch's successor builds and installs it, the others wait for it and retry
+public class ConcurrentDeck extends Deck {
+
+    // one shuffled order and its draw cursor, the order never changes once published
+    // the epoch also counts what is left of each card, suit and rank, so composition questions are one read
+    private static final class Epoch {
+        final long number;
+        final byte[] order;
+        final AtomicInteger cursor = new AtomicInteger();
+        // set by the one thread allowed to build the next epoch, so no other thread shuffles for nothing
+        final AtomicBoolean successorClaimed = new AtomicBoolean();
+
+        final AtomicLong remainingMask = new AtomicLong(ALL_CARDS_MASK);
+        final AtomicIntegerArray remainingByOrdinal = new AtomicIntegerArray(SIZE);
+        final AtomicIntegerArray remainingBySuit = new AtomicIntegerArray(4);
+        final AtomicIntegerArray remainingByRank = new AtomicIntegerArray(15);
+
+        Epoch(long number, byte[] order, int deckCount) {
+            this.number = number;
+            this.order = order;
+            for (int ordinal = 0; ordinal < SIZE; ordinal++) {
+                remainingByOrdinal.set(ordinal, deckCount);
+            }
+            for (int suit = 0; suit < 4; suit++) {
+                remainingBySuit.set(suit, 13 * deckCount);
+            }
+            for (int rank = 2; rank <= 14; rank++) {
+                remainingByRank.set(rank, 4 * deckCount);
+            }
+        }
+
+        void markDrawn(int ordinal) {
+            remainingBySuit.decrementAndGet(ordinal / 13);
+            remainingByRank.decrementAndGet(ordinal % 13 + 2);
+            if (remainingByOrdinal.decrementAndGet(ordinal) == 0) {
+                remainingMask.accumulateAndGet(~(1L << ordinal), (mask, keep) -> mask & keep);
+            }
+        }
+    }
+
+    // how long a thread waiting on a new epoch busy-waits before it starts yielding
+    private static final int SPINS_BEFORE_YIELD = 64;
+
+    private final int deckCount;
+    private final long seed;
+    private final AtomicReference<Epoch> current;
+
+    // creates a concurrent deck of deckCount decks with a random seed
+    public ConcurrentDeck(int deckCount) {
+        this(deckCount, ThreadLocalRandom.current().nextLong());
+    }
+
+    // the same seed always gives the same order for every epoch, whatever threads draw
+    public ConcurrentDeck(int deckCount, long seed) {
+        super(1, new SplittableRandom(seed)); // the base deck storage is not used
+        if (deckCount < 1 || deckCount > Integer.MAX_VALUE / SIZE) {
+            throw new IllegalArgumentException("Deck count out of range: " + deckCount);
+        }
+        this.deckCount = deckCount;
+        this.seed = seed;
+        this.current = new AtomicReference<>(createEpoch(1));
+    }
+
+    // starts a new epoch, cards not yet drawn from the old one are dropped
+    @Override
+    public void shuffle() {
+        while (!advance(current.get())) {
+            // another thread was already building a new epoch, shuffle again on top of it
+        }
+    }
+
+    // a shared deck keeps dealing between games, a new epoch starts when it runs out
+    @Override
+    public void prepareForNewGame() {
+    }
+
+    @Override
+    public Card drawCard() {
+        return Card.of((int) (drawWithEpoch() & 0xFF));
+    }
+
+    // draws a card and returns (epoch << 8) | ordinal, used to check no card is dealt twice
+    public long drawWithEpoch() {
+        while (true) {
+            Epoch epoch = current.get();
+            int position = epoch.cursor.getAndIncrement();
+            if (position < epoch.order.length) {
+                int ordinal = epoch.order[position];
+                epoch.markDrawn(ordinal);
+                return (epoch.number << 8) | ordinal;
+            }
+            // the epoch is used up, whoever gets here first builds the next one
+            advance(epoch);
+        }
+    }
+
+    // replaces epoch with the next one, returns false if another thread claimed that job first
+    // losers spin until the winner has installed its epoch, rather than each shuffling one of their own
+    private boolean advance(Epoch epoch) {
+        if (epoch.successorClaimed.compareAndSet(false, true)) {
+            current.set(createEpoch(epoch.number + 1));
+            SHUFFLES.increment(); // counted once, by the thread that built the epoch
+            return true;
+        }
+        for (int spins = 0; current.get() == epoch; spins++) {
+            if (spins < SPINS_BEFORE_YIELD) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield(); // the builder may not be running, give it the core
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int cardsRemaining() {
+        Epoch epoch = current.get();
+        return Math.max(0, epoch.order.length - epoch.cursor.get());
+    }
+
+    @Override
+    public int getDeckCount() {
+        return deckCount;
+    }
+
+    @Override
+    public long getShuffleCount() {
+        return current.get().number;
+    }
+
+    // the counts are for the current epoch, while other threads draw they can trail a draw in flight
+    @Override
+    public int remainingOfSuit(int suit) {
+        return current.get().remainingBySuit.get(suit);
+    }
+
+    @Override
+    public int remainingOfRank(int rank) {
+        return current.get().remainingByRank.get(rank);
+    }
+
+    @Override
+    public int remainingOf(Card card) {
+        return current.get().remainingByOrdinal.get(card.getOrdinal());
+    }
+
+    @Override
+    public long remainingMask() {
+        return current.get().remainingMask.get();
+    }
+
+    // shuffles a fresh order with a generator seeded from the epoch number
+    // no generator is shared between threads, so building an epoch needs no lock
+    private Epoch createEpoch(long number) {
+        SplittableRandom random = new SplittableRandom(mix(seed + mix(number)));
+        byte[] order = new byte[deckCount * SIZE];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = (byte) (i % SIZE);
+        }
+        for (int i = order.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+        return new Epoch(number, order, deckCount);
+    }
+
+    // scrambles the bits so nearby seeds give unrelated streams
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -11,53 +11,199 @@
 */
 package workspace;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.random.RandomGenerator;
 
 public class Deck {
-    // list to hold the cards
-    private List<Card> cards;
+    // number of cards in a standard deck
+    public static final int SIZE = 52;
+
+    // card ordinals (see Card.of) in deck order
+    protected final byte[] cards;
     // index of the next card to draw
-    private int currentCardIndex;
+    protected int currentCardIndex;
+    // random source for shuffling, each simulator worker gives its own stream
+    protected final RandomGenerator random;
+    // how many times the deck has been shuffled
+    protected long shuffleCount;
+    // shuffles across every deck, for the metrics dump
+    protected static final Metrics.Counter SHUFFLES = Metrics.counter("deck.reshuffles");
+
+    // every card as a bit (bit n = ordinal n) and the bits of each suit and rank
+    public static final long ALL_CARDS_MASK = (1L << SIZE) - 1;
+    public static final long RED_MASK = suitMask(0) | suitMask(1);
 
-    // creates and shuffles a new deck
+    // cards still to be drawn: a bit per card still in the deck, and counts per card, suit and rank
+    // kept up to date on every draw and shuffle so composition questions never walk the deck
+    protected long remainingMask;
+    protected final int[] remainingByOrdinal = new int[SIZE];
+    protected final int[] remainingBySuit = new int[4];
+    protected final int[] remainingByRank = new int[15];
+
+    // creates and shuffles a new deck, seeded from -Dcardguesser.seed if given
     public Deck() {
-        cards = new ArrayList<>(); // use arraylist to store cards
-        for (int suit = 0; suit <= 3; suit++) { // 0-3 for suits
-            for (int rank = 2; rank <= 14; rank++) { // 2-14 for ranks
-                cards.add(new Card(rank, suit));
-            }
+        this(RandomStreams.fromSystemProperties());
+    }
+
+    // creates and shuffles a new deck that always deals the same games for the same seed
+    public Deck(long seed) {
+        this(RandomStreams.create(RandomStreams.DEFAULT_ALGORITHM, seed));
+    }
+
+    // creates and shuffles a new deck using the given random source
+    public Deck(RandomGenerator random) {
+        this(1, random);
+        shuffle(); // shuffle the deck
+    }
+
+    // fills deckCount decks in order without shuffling, for subclasses
+    protected Deck(int deckCount, RandomGenerator random) {
+        if (deckCount < 1 || deckCount > Integer.MAX_VALUE / SIZE) {
+            throw new IllegalArgumentException("Deck count out of range: " + deckCount);
+        }
+        this.random = random;
+        this.cards = new byte[deckCount * SIZE];
+        for (int i = 0; i < cards.length; i++) {
+            cards[i] = (byte) (i % SIZE);
         }
         currentCardIndex = 0; // start at the top of the deck
-        shuffle(); // shuffle the deck
+        resetRemaining();
     }
 
     // shuffles the deck and resets the draw index
     public void shuffle() {
-        Collections.shuffle(cards); 
+        // in-place fisher-yates over the byte array
+        for (int i = cards.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte swap = cards[i];
+            cards[i] = cards[j];
+            cards[j] = swap;
+        }
         currentCardIndex = 0; // reset to the top after shuffling
+        shuffleCount++;
+        SHUFFLES.increment();
+        resetRemaining();
+    }
+
+    // called when a game starts, a single deck is always reshuffled
+    public void prepareForNewGame() {
+        shuffle();
     }
 
     // draws the next card from the deck
     public Card drawCard() {
-        if (currentCardIndex < cards.size()) {
-            return cards.get(currentCardIndex++);
-        }
-        else {
-            System.out.println("Deck empty. Reshuffling...");
+        if (currentCardIndex >= cards.length) {
             shuffle();
-            if (currentCardIndex < cards.size()) {
-                 return cards.get(currentCardIndex++);
-            } 
-            else {
-                System.err.println("Error: Deck is fundamentally empty after reshuffle.");
-                return null;
-            }
         }
+        int ordinal = cards[currentCardIndex++];
+        markDrawn(ordinal);
+        return Card.of(ordinal); // shared card from the table, nothing allocated
     }
 
     public int cardsRemaining() {
-        return cards.size() - currentCardIndex;
+        return cards.length - currentCardIndex;
+    }
+
+    // how many 52 card decks are mixed together
+    public int getDeckCount() {
+        return cards.length / SIZE;
+    }
+
+    // goes up by one every shuffle, lets callers notice a reshuffle
+    public long getShuffleCount() {
+        return shuffleCount;
+    }
+
+    // how many cards of a suit (0-3) are left
+    public int remainingOfSuit(int suit) {
+        return remainingBySuit[suit];
+    }
+
+    // how many cards of a rank (2-14) are left
+    public int remainingOfRank(int rank) {
+        return remainingByRank[rank];
+    }
+
+    // how many copies of a card are left
+    public int remainingOf(Card card) {
+        return remainingByOrdinal[card.getOrdinal()];
+    }
+
+    // bit n is set while at least one copy of the card with ordinal n is left
+    public long remainingMask() {
+        return remainingMask;
+    }
+
+    // how many different cards from a set of card bits are still left, e.g. RED_MASK & rankMask(14)
+    public int countRemaining(long cardMask) {
+        return Long.bitCount(remainingMask() & cardMask);
+    }
+
+    // how many red (hearts and diamonds) or black cards are left
+    public int remainingOfColor(boolean red) {
+        if (red) {
+            return remainingOfSuit(0) + remainingOfSuit(1);
+        }
+        return remainingOfSuit(2) + remainingOfSuit(3);
+    }
+
+    // chance the next card drawn has this suit
+    public double probabilityOfSuit(int suit) {
+        return probability(remainingOfSuit(suit));
+    }
+
+    // chance the next card drawn has this rank
+    public double probabilityOfRank(int rank) {
+        return probability(remainingOfRank(rank));
+    }
+
+    // chance the next card drawn is this exact card
+    public double probabilityOf(Card card) {
+        return probability(remainingOf(card));
+    }
+
+    private double probability(int matching) {
+        int left = cardsRemaining();
+        if (left == 0) {
+            return 0;
+        }
+        return (double) matching / left;
+    }
+
+    // bits of the 13 cards of a suit
+    public static long suitMask(int suit) {
+        return ((1L << 13) - 1) << (suit * 13);
+    }
+
+    // bits of the 4 cards of a rank (2-14)
+    public static long rankMask(int rank) {
+        long mask = 0;
+        for (int suit = 0; suit <= 3; suit++) {
+            mask |= 1L << (suit * 13 + rank - 2);
+        }
+        return mask;
+    }
+
+    // puts every card back in the counts, final and reading the array itself as the constructor calls it
+    protected final void resetRemaining() {
+        int decks = cards.length / SIZE;
+        remainingMask = ALL_CARDS_MASK;
+        for (int ordinal = 0; ordinal < SIZE; ordinal++) {
+            remainingByOrdinal[ordinal] = decks;
+        }
+        for (int suit = 0; suit <= 3; suit++) {
+            remainingBySuit[suit] = 13 * decks;
+        }
+        for (int rank = 2; rank <= 14; rank++) {
+            remainingByRank[rank] = 4 * decks;
+        }
+    }
+
+    // takes a drawn card out of the counts
+    protected void markDrawn(int ordinal) {
+        if (--remainingByOrdinal[ordinal] == 0) {
+            remainingMask &= ~(1L << ordinal);
+        }
+        remainingBySuit[ordinal / 13]--;
+        remainingByRank[ordinal % 13 + 2]--;
     }
 }
\ No newline at end of file
@@ -0,0 +1,331 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+// works out the exact expected score for the rest of a game and the best time to take a hint
+// the player is modelled the way the simulator plays: every wrong guess costs guessSeconds, so each
+// card allows a fixed number of guesses, always guessing the value with the most unseen cards first.
+// per card the choice is to never hint, or to hint after k wrong guesses, and the solver picks the best.
+// states are the unseen count of each suit (easy) or rank (hard) plus level, card and hints left,
+// memoised so repeated questions are a table lookup. levels, timers and scores come from a level schedule,
+// which has to end: an endless schedule has no final score to expect
+public class ExpectedScoreSolver {
+
+    // policy value meaning no hint is taken on the card
+    public static final int NO_HINT = -1;
+
+    // solve() result for states past the last level, which have nothing left to earn
+    private static final int GAME_OVER = -1;
+    private static final int INITIAL_MEMO_CAPACITY = 1 << 12;
+
+    private final boolean easyMode;
+    private final LevelSchedule schedule;
+    private final int[] guessesAtLevel; // how many guesses fit in each level's timer
+    private final int valueCount;  // 4 suits or 13 ranks
+    private final int[] groupOf;   // hint category of each value index
+    private final int bitsPerCount;
+    // memo key field widths, sized for the schedule
+    private final int levelBits;
+    private final int cardBits;
+    private final int hintBits;
+
+    // solved states in an open-addressing table keyed by the packed state, linear probing, at most half full
+    // a key always holds a level of 1 or more, so 0 marks an empty slot and no key is ever boxed
+    private long[] memoKeys = new long[INITIAL_MEMO_CAPACITY];
+    private double[] memoScores = new double[INITIAL_MEMO_CAPACITY];
+    private int[] memoPolicies = new int[INITIAL_MEMO_CAPACITY];
+    private int memoSize;
+    // scratch arrays per card depth so solving allocates nothing but the memo table when it grows
+    private int[][] countsAtDepth = new int[0][];
+    private int[][] orderAtDepth = new int[0][];
+
+    // a solver for players that spend guessSeconds on every wrong guess, like the simulator
+    public ExpectedScoreSolver(String difficulty, int guessSeconds, LevelSchedule schedule) {
+        if (schedule.isEndless()) {
+            throw new IllegalArgumentException("Schedule " + schedule.getName() + " never ends, so it has no expected score");
+        }
+        this.easyMode = difficulty.equals("Easy");
+        this.schedule = schedule;
+        int lastLevel = schedule.getLastLevel();
+        this.guessesAtLevel = new int[lastLevel + 1];
+        for (int level = 1; level <= lastLevel; level++) {
+            guessesAtLevel[level] = (schedule.secondsFor(level) + guessSeconds - 1) / guessSeconds;
+        }
+        this.valueCount = easyMode ? 4 : 13;
+        this.groupOf = new int[valueCount];
+        for (int i = 0; i < valueCount; i++) {
+            groupOf[i] = easyMode ? GameEngine.hintCategoryOfSuit(i) : GameEngine.hintCategoryOfRank(i + 2);
+        }
+        this.bitsPerCount = easyMode ? 8 : 4;
+        this.levelBits = bitsFor(lastLevel);
+        this.cardBits = bitsFor(schedule.getMaxCardsPerLevel() - 1);
+        this.hintBits = bitsFor(schedule.getStartingHints());
+        if (valueCount * bitsPerCount + levelBits + cardBits + hintBits > Long.SIZE) {
+            throw new IllegalArgumentException("Schedule " + schedule.getName() + " is too long to solve");
+        }
+    }
+
+    // a solver for the default level schedule
+    public static ExpectedScoreSolver forGuessSeconds(String difficulty, int guessSeconds) {
+        return new ExpectedScoreSolver(difficulty, guessSeconds, LevelSchedule.getDefault());
+    }
+
+    // expected points still to be earned, as if the current card had just been dealt
+    public double expectedScore(VisibleGameState state) {
+        return expectedScore(unseenCounts(state), state.getLevelNumber(), state.getGuessIndex(), state.getHintsRemaining());
+    }
+
+    // best hint policy for the current card: NO_HINT or the number of wrong guesses before hinting
+    public int bestHintPolicy(VisibleGameState state) {
+        return bestHintPolicy(unseenCounts(state), state.getLevelNumber(), state.getGuessIndex(), state.getHintsRemaining());
+    }
+
+    // unseen counts indexed by suit (easy) or rank - 2 (hard), levelNumber from 1, cardIndex within the level
+    public double expectedScore(int[] unseenCounts, int levelNumber, int cardIndex, int hintsRemaining) {
+        int[] counts = startCounts(unseenCounts, levelNumber, cardIndex, hintsRemaining);
+        return scoreAt(solve(counts, levelNumber, cardIndex, hintsRemaining, 0));
+    }
+
+    public int bestHintPolicy(int[] unseenCounts, int levelNumber, int cardIndex, int hintsRemaining) {
+        int[] counts = startCounts(unseenCounts, levelNumber, cardIndex, hintsRemaining);
+        int slot = solve(counts, levelNumber, cardIndex, hintsRemaining, 0);
+        return slot == GAME_OVER ? NO_HINT : memoPolicies[slot];
+    }
+
+    // how many states have been solved so far
+    public int cachedStates() {
+        return memoSize;
+    }
+
+    // how many guesses fit in the timer of a level
+    public int getGuessesPerCard(int levelNumber) {
+        return guessesAtLevel[levelNumber];
+    }
+
+    // cards the player has not seen since the shuffle: a full deck (or shoe) minus the revealed cards
+    // unseen counts for the state's difficulty, indexed like the int[] methods take them
+    // read on the game's thread so the solving can happen on another
+    public static int[] unseenCounts(VisibleGameState state) {
+        int decks = state.getDeckCount();
+        boolean easy = state.isEasyMode();
+        int[] counts = new int[easy ? 4 : 13];
+        for (int i = 0; i < counts.length; i++) {
+            if (easy) {
+                counts[i] = 13 * decks - state.getRevealedSuitCount(i);
+            } else {
+                counts[i] = 4 * decks - state.getRevealedRankCount(i + 2);
+            }
+        }
+        return counts;
+    }
+
+    // copies the counts into the depth 0 scratch array, sizing the scratch arrays for the game length
+    private int[] startCounts(int[] unseenCounts, int levelNumber, int cardIndex, int hintsRemaining) {
+        if (levelNumber < 1 || cardIndex < 0 || cardIndex >= schedule.cardsIn(levelNumber)) {
+            throw new IllegalArgumentException("No card " + cardIndex + " in level " + levelNumber);
+        }
+        if (hintsRemaining < 0 || hintsRemaining > schedule.getStartingHints()) {
+            throw new IllegalArgumentException("Hints " + hintsRemaining + " is outside 0-" + schedule.getStartingHints());
+        }
+        if (unseenCounts.length != valueCount) {
+            throw new IllegalArgumentException("Expected " + valueCount + " unseen counts, got " + unseenCounts.length);
+        }
+        int maxCount = (1 << bitsPerCount) - 1;
+        for (int count : unseenCounts) {
+            if (count < 0 || count > maxCount) {
+                throw new IllegalArgumentException("Unseen count " + count + " is outside 0-" + maxCount);
+            }
+        }
+        int depth = 2;
+        for (int level = levelNumber; level <= schedule.getLastLevel(); level++) {
+            depth += schedule.cardsIn(level);
+        }
+        if (countsAtDepth.length < depth) {
+            countsAtDepth = new int[depth][valueCount];
+            orderAtDepth = new int[depth][valueCount];
+        }
+        System.arraycopy(unseenCounts, 0, countsAtDepth[0], 0, valueCount);
+        return countsAtDepth[0];
+    }
+
+    // solves the state from the start of a card, returns the memo slot holding its best expected score
+    // and the hint policy that gets it, or GAME_OVER; a slot is only valid until the next solve grows the table
+    private int solve(int[] counts, int level, int cardIndex, int hints, int depth) {
+        if (level > schedule.getLastLevel()) {
+            return GAME_OVER;
+        }
+        canonicalise(counts);
+        long key = key(counts, level, cardIndex, hints);
+        int known = slotOf(key);
+        if (memoKeys[known] == key) {
+            return known;
+        }
+
+        double best = evaluate(counts, level, cardIndex, hints, NO_HINT, depth);
+        int bestPolicy = NO_HINT;
+        int guessesPerCard = guessesAtLevel[level];
+        boolean hintAllowed = hints > 0 && schedule.isHintAllowed(level);
+        for (int policy = 0; policy < guessesPerCard && hintAllowed; policy++) {
+            double value = evaluate(counts, level, cardIndex, hints, policy, depth);
+            if (value > best + 1e-12) {
+                best = value;
+                bestPolicy = policy;
+            }
+        }
+        return store(key, best, bestPolicy);
+    }
+
+    private double scoreAt(int slot) {
+        return slot == GAME_OVER ? 0 : memoScores[slot];
+    }
+
+    // the slot holding key, or the empty slot where it belongs
+    private int slotOf(long key) {
+        int mask = memoKeys.length - 1;
+        int slot = (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+        while (memoKeys[slot] != 0 && memoKeys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    // adds a solved state, doubling the table once it is half full, and returns its slot
+    private int store(long key, double score, int policy) {
+        int slot = slotOf(key); // looked up again, solving the rest of the game may have grown the table
+        memoKeys[slot] = key;
+        memoScores[slot] = score;
+        memoPolicies[slot] = policy;
+        memoSize++;
+        if (memoSize * 2 > memoKeys.length) {
+            long[] oldKeys = memoKeys;
+            double[] oldScores = memoScores;
+            int[] oldPolicies = memoPolicies;
+            memoKeys = new long[oldKeys.length * 2];
+            memoScores = new double[oldKeys.length * 2];
+            memoPolicies = new int[oldKeys.length * 2];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    int moved = slotOf(oldKeys[i]);
+                    memoKeys[moved] = oldKeys[i];
+                    memoScores[moved] = oldScores[i];
+                    memoPolicies[moved] = oldPolicies[i];
+                }
+            }
+            slot = slotOf(key);
+        }
+        return slot;
+    }
+
+    // expected score of one card played with the given hint policy, then the rest of the game played well
+    private double evaluate(int[] counts, int level, int cardIndex, int hints, int policy, int depth) {
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0; // nothing left to deal
+        }
+
+        int[] order = orderAtDepth[depth];
+        sortByCount(counts, order);
+        int guessesPerCard = guessesAtLevel[level];
+        int plainGuesses = policy == NO_HINT ? guessesPerCard : policy;
+        boolean lastCard = cardIndex + 1 >= schedule.cardsIn(level);
+
+        double expected = 0;
+        for (int rankInOrder = 0; rankInOrder < valueCount; rankInOrder++) {
+            int value = order[rankInOrder];
+            if (counts[value] == 0) {
+                continue;
+            }
+            boolean found;
+            boolean hinted = false;
+            if (rankInOrder < plainGuesses) {
+                found = true; // guessed before any hint was needed
+            } else if (policy == NO_HINT) {
+                found = false;
+            } else {
+                // the hint narrows the guesses to the value's own category, minus those already tried
+                hinted = true;
+                int position = 0;
+                for (int i = policy; i < rankInOrder; i++) {
+                    if (groupOf[order[i]] == groupOf[value]) {
+                        position++;
+                    }
+                }
+                found = position < guessesPerCard - policy;
+            }
+            if (!found) {
+                continue; // timed out, the game ends here
+            }
+
+            int points = 0;
+            if (lastCard) {
+                points = schedule.pointsFor(level, hinted); // only a hint on the last card costs score
+            }
+            int[] next = countsAtDepth[depth + 1];
+            System.arraycopy(counts, 0, next, 0, valueCount);
+            next[value]--;
+            int hintsAfter = hinted ? hints - 1 : hints;
+            double rest;
+            if (lastCard) {
+                rest = scoreAt(solve(next, level + 1, 0, hintsAfter, depth + 1));
+            } else {
+                rest = scoreAt(solve(next, level, cardIndex + 1, hintsAfter, depth + 1));
+            }
+            expected += (double) counts[value] / total * (points + rest);
+        }
+        return expected;
+    }
+
+    // orders value indexes by unseen count, most first, ties to the lower index
+    private void sortByCount(int[] counts, int[] order) {
+        for (int i = 0; i < valueCount; i++) {
+            int value = i;
+            int j = i;
+            while (j > 0 && counts[order[j - 1]] < counts[value]) {
+                order[j] = order[j - 1];
+                j--;
+            }
+            order[j] = value;
+        }
+    }
+
+    // values in the same hint category can be swapped without changing the answer,
+    // so each category's counts are sorted high to low and equal states share one memo entry
+    private void canonicalise(int[] counts) {
+        for (int i = 1; i < valueCount; i++) {
+            int count = counts[i];
+            int j = i;
+            while (j > 0 && groupOf[j - 1] == groupOf[i] && counts[j - 1] < count) {
+                counts[j] = counts[j - 1];
+                j--;
+            }
+            counts[j] = count;
+        }
+    }
+
+    private long key(int[] counts, int level, int cardIndex, int hints) {
+        long key = 0;
+        for (int count : counts) {
+            key = (key << bitsPerCount) | count;
+        }
+        key = (key << levelBits) | level;
+        key = (key << cardBits) | cardIndex;
+        return (key << hintBits) | hints;
+    }
+
+    // bits needed to hold 0 to max
+    private static int bitsFor(int max) {
+        return Long.SIZE - Long.numberOfLeadingZeros(max);
+    }
+}
@@ -0,0 +1,485 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+// the game rules without any ui, so games can also run in tests, simulators or servers
+public class GameEngine implements VisibleGameState {
+
+    // receives game events, called on whatever thread drives the engine
+    public interface Listener {
+        // a level has its cards and the timer is reset
+        default void levelStarted(int levelNumber, int cardCount) {}
+        // with look-ahead on, the next level's cards were drawn while this level is played
+        default void levelPrepared(int levelNumber, Level level) {}
+        // no cards could be drawn for the level
+        default void levelStartFailed(int levelNumber) {}
+        // a guess was checked, levelComplete is true once the last card of the level is guessed
+        default void guessChecked(Card card, int cardIndex, boolean correct, boolean levelComplete) {}
+        // a hint was spent on a card
+        default void hintUsed(Card card, String hintText) {}
+        // score was added for finishing a level
+        default void levelCompleted(int levelNumber, int earnedXP, boolean hintUsed) {}
+        // one second passed
+        default void timerTicked(int secondsLeft) {}
+        // the timer ran out before the level was finished
+        default void timedOut(int levelNumber) {}
+        // the final level was completed
+        default void gameWon(int score) {}
+    }
+
+    // hint texts, kept whole so giving a hint allocates nothing
+    private static final String HINT_RED = "Hint: The suit color is Red (Hearts/Diamonds)";
+    private static final String HINT_BLACK = "Hint: The suit color is Black (Clubs/Spades)";
+    private static final String HINT_LOW = "Hint: The rank is in the Low (2-6) range.";
+    private static final String HINT_MEDIUM = "Hint: The rank is in the Medium (7-10) range.";
+    private static final String HINT_HIGH = "Hint: The rank is in the High (Jack-Ace) range.";
+
+    // hint categories: easy hints give the color, hard hints give the rank range
+    public static final int HINT_NONE = -1;
+    public static final int HINT_CATEGORY_RED = 0;
+    public static final int HINT_CATEGORY_BLACK = 1;
+    public static final int HINT_CATEGORY_LOW = 0;
+    public static final int HINT_CATEGORY_MEDIUM = 1;
+    public static final int HINT_CATEGORY_HIGH = 2;
+
+    private static final Listener NO_LISTENER = new Listener() {};
+
+    private final Deck deck;
+    private final LevelSchedule schedule; // cards, timer, score and hint rules of every level
+    private Listener listener = NO_LISTENER;
+    private String difficulty;      // easy or hard
+    private boolean easyMode;       // cached difficulty.equals("Easy")
+
+    private Level currentLevelData;
+    private int currentLevelNumber;
+    // look-ahead: the next level dealt early, so starting it is a swap of two reused objects
+    private boolean lookAhead;
+    private Level nextLevelData;
+    private int nextLevelNumber;     // level nextLevelData was dealt for, 0 if none
+    private boolean currentLevelDealtAhead;
+    private int score;
+    private int totalHintsRemaining;
+    private boolean hintUsedThisLevel;
+    private boolean levelInProgress; // is the player currently playing a level
+    private boolean paused;          // level was in progress when pause() was called
+    private boolean gameWon;
+    private int guessIndex;          // which card of the level is being guessed
+    private int secondsLeft;
+    private int hintCategory = HINT_NONE; // hint given for the current card
+
+    // cards shown to the player since the deck was last shuffled, for card counting
+    private final int[] revealedBySuit = new int[4];
+    private final int[] revealedByRank = new int[15];
+    private int revealedCount;
+    private long revealedShuffle = -1;
+
+    // creates an engine that deals from the given deck and plays the default level schedule
+    public GameEngine(Deck deck, String difficulty) {
+        this(deck, difficulty, LevelSchedule.getDefault());
+    }
+
+    public GameEngine(Deck deck, String difficulty, LevelSchedule schedule) {
+        this.deck = deck;
+        this.schedule = schedule;
+        setDifficulty(difficulty);
+        this.currentLevelNumber = 1;
+        this.totalHintsRemaining = schedule.getStartingHints();
+    }
+
+    public void setListener(Listener listener) {
+        if (listener == null) {
+            this.listener = NO_LISTENER;
+        } else {
+            this.listener = listener;
+        }
+    }
+
+    // deals each next level while the current one is played, off by default so simulations
+    // draw cards exactly when the level starts
+    public void setLookAhead(boolean lookAhead) {
+        this.lookAhead = lookAhead;
+        if (!lookAhead) {
+            nextLevelNumber = 0;
+        }
+    }
+
+    public void setDifficulty(String difficulty) {
+        this.difficulty = difficulty;
+        this.easyMode = difficulty.equals("Easy");
+    }
+
+    // resets score and hints and starts level 1
+    public void startNewGame() {
+        score = 0;
+        totalHintsRemaining = schedule.getStartingHints();
+        gameWon = false;
+        startLevel(1);
+    }
+
+    // sets up and starts a level, returns false if no cards could be drawn
+    public boolean startLevel(int levelNum) {
+        this.currentLevelNumber = levelNum;
+        this.hintUsedThisLevel = false;
+        this.levelInProgress = true;
+        this.paused = false;
+        this.guessIndex = 0;
+        this.hintCategory = HINT_NONE;
+
+        if (levelNum == 1) {
+            deck.prepareForNewGame();
+            nextLevelNumber = 0; // anything dealt ahead belonged to the last game
+        }
+
+        currentLevelDealtAhead = nextLevelNumber == levelNum;
+        if (currentLevelDealtAhead) {
+            Level played = currentLevelData;
+            currentLevelData = nextLevelData;
+            nextLevelData = played; // redealt for the level after this one
+        } else if (currentLevelData == null) {
+            currentLevelData = new Level(deck, schedule, levelNum);
+        } else {
+            currentLevelData.reset(levelNum); // one level object for the whole game, redealt each level
+        }
+        nextLevelNumber = 0;
+        if (deck.getShuffleCount() != revealedShuffle) {
+            clearRevealed(); // fresh deck, nothing has been seen from it yet
+        }
+
+        if (currentLevelData.cardCount() == 0) {
+            levelInProgress = false;
+            listener.levelStartFailed(levelNum);
+            return false;
+        }
+
+        secondsLeft = schedule.secondsFor(levelNum);
+        listener.levelStarted(levelNum, currentLevelData.getInitialCardsToGuessCount());
+        prepareNextLevel();
+        return true;
+    }
+
+    // deals the level after the current one ahead of time, if look-ahead is on and there is one
+    private void prepareNextLevel() {
+        if (!lookAhead || schedule.isFinalLevel(currentLevelNumber)) {
+            return;
+        }
+        int next = currentLevelNumber + 1;
+        if (nextLevelData == null) {
+            nextLevelData = new Level(deck, schedule, next);
+        } else {
+            nextLevelData.reset(next);
+        }
+        if (nextLevelData.cardCount() < nextLevelData.getInitialCardsToGuessCount()) {
+            return; // dealt again, and reported, when the level starts
+        }
+        nextLevelNumber = next;
+        listener.levelPrepared(next, nextLevelData);
+    }
+
+    // starts the level after the one just completed
+    public boolean startNextLevel() {
+        return startLevel(currentLevelNumber + 1);
+    }
+
+    // checks a guessed suit (easy) or rank (hard) against the current card
+    public boolean guess(int guessedValue) {
+        if (!levelInProgress || currentLevelData == null) {
+            return false;
+        }
+        if (guessIndex < 0 || guessIndex >= currentLevelData.cardCount()) {
+            return false;
+        }
+
+        int cardIndex = guessIndex;
+        Card currentCardToGuess = currentLevelData.cardAt(cardIndex);
+        boolean correct;
+        if (easyMode) {
+            correct = guessedValue == currentCardToGuess.getSuit();
+        } else {
+            correct = guessedValue == currentCardToGuess.getRank();
+        }
+
+        boolean levelComplete = false;
+        if (correct) {
+            reveal(currentCardToGuess);
+            if (cardIndex + 1 < currentLevelData.cardCount()) {
+                // more cards to guess in this level, the timer starts over for the next one
+                guessIndex++;
+                hintUsedThisLevel = false;
+                hintCategory = HINT_NONE;
+                secondsLeft = schedule.secondsFor(currentLevelNumber);
+            } else {
+                levelInProgress = false;
+                levelComplete = true;
+                awardXP();
+            }
+        }
+        if (levelComplete && schedule.isFinalLevel(currentLevelNumber)) {
+            gameWon = true; // set before the events so listeners already see it
+        }
+        listener.guessChecked(currentCardToGuess, cardIndex, correct, levelComplete);
+        if (gameWon && levelComplete) {
+            listener.gameWon(score);
+        }
+        return correct;
+    }
+
+    // spends a hint on the current card, returns the hint text or null if no hint could be given
+    public String useHint() {
+        if (totalHintsRemaining <= 0 || !levelInProgress || !schedule.isHintAllowed(currentLevelNumber)) {
+            return null;
+        }
+        Card targetCard = getTargetCard();
+        if (targetCard == null) {
+            return null;
+        }
+
+        totalHintsRemaining--;
+
+        // only flag hintUsedThisLevel if it's the final guess required for the level's score
+        if (guessIndex == currentLevelData.cardCount() - 1) {
+            hintUsedThisLevel = true;
+        }
+
+        // provide vague hint based on difficulty and the target card
+        String hintText;
+        if (easyMode) {
+            hintCategory = hintCategoryOfSuit(targetCard.getSuit());
+            if (hintCategory == HINT_CATEGORY_RED) {
+                hintText = HINT_RED;
+            } else {
+                hintText = HINT_BLACK;
+            }
+        } else {
+            hintCategory = hintCategoryOfRank(targetCard.getRank());
+            if (hintCategory == HINT_CATEGORY_LOW) {
+                hintText = HINT_LOW;
+            } else if (hintCategory == HINT_CATEGORY_MEDIUM) {
+                hintText = HINT_MEDIUM;
+            } else {
+                hintText = HINT_HIGH;
+            }
+        }
+        listener.hintUsed(targetCard, hintText);
+        return hintText;
+    }
+
+    // counts down one second, ending the level when time runs out
+    public void tick() {
+        if (!levelInProgress) {
+            return;
+        }
+        secondsLeft--;
+        listener.timerTicked(secondsLeft);
+        if (secondsLeft <= 0) {
+            levelInProgress = false;
+            // the timeout popup names every card of the level that was still hidden
+            for (int i = guessIndex; i < currentLevelData.cardCount(); i++) {
+                reveal(currentLevelData.cardAt(i));
+            }
+            listener.timedOut(currentLevelNumber);
+        }
+    }
+
+    // stops the level (while a dialog is open), returns whether it was in progress
+    public boolean pause() {
+        paused = levelInProgress;
+        levelInProgress = false;
+        return paused;
+    }
+
+    // continues a level stopped by pause()
+    public void resume() {
+        if (paused) {
+            levelInProgress = true;
+            paused = false;
+        }
+    }
+
+    // easy hint category of a suit: hearts and diamonds are red
+    public static int hintCategoryOfSuit(int suit) {
+        if (suit <= 1) {
+            return HINT_CATEGORY_RED;
+        }
+        return HINT_CATEGORY_BLACK;
+    }
+
+    // hard hint category of a rank: 2-6 low, 7-10 medium, jack-ace high
+    public static int hintCategoryOfRank(int rank) {
+        if (rank <= 6) {
+            return HINT_CATEGORY_LOW;
+        } else if (rank <= 10) {
+            return HINT_CATEGORY_MEDIUM;
+        }
+        return HINT_CATEGORY_HIGH;
+    }
+
+    // remembers a card the player has now seen
+    private void reveal(Card card) {
+        if (card == null) {
+            return;
+        }
+        revealedBySuit[card.getSuit()]++;
+        revealedByRank[card.getRank()]++;
+        revealedCount++;
+    }
+
+    private void clearRevealed() {
+        for (int i = 0; i < revealedBySuit.length; i++) {
+            revealedBySuit[i] = 0;
+        }
+        for (int i = 0; i < revealedByRank.length; i++) {
+            revealedByRank[i] = 0;
+        }
+        revealedCount = 0;
+        revealedShuffle = deck.getShuffleCount();
+    }
+
+    // calculates and adds score for completing a level
+    private void awardXP() {
+        // the schedule scores each level, less if a hint was used on its last card
+        int earnedXP = schedule.pointsFor(currentLevelNumber, hintUsedThisLevel);
+        score += earnedXP; // add score
+        listener.levelCompleted(currentLevelNumber, earnedXP, hintUsedThisLevel);
+    }
+
+    // the card currently being guessed, or null
+    public Card getTargetCard() {
+        if (currentLevelData == null) {
+            return null;
+        }
+        if (guessIndex < 0 || guessIndex >= currentLevelData.cardCount()) {
+            return null;
+        }
+        return currentLevelData.cardAt(guessIndex);
+    }
+
+    // names the card(s) of the current level, like "Ace of Spades and 2 of Hearts"
+    // only built for the timeout popup, the names themselves are precomputed
+    public String getTargetCardInfo() {
+        if (currentLevelData == null || currentLevelData.cardCount() == 0) {
+            return "Unknown";
+        }
+        if (currentLevelData.cardCount() == 1) {
+            return currentLevelData.cardAt(0).getName(); // levels with one card need no joining
+        }
+        StringBuilder info = new StringBuilder();
+        for (int i = 0; i < currentLevelData.cardCount(); i++) {
+            if (i > 0) {
+                info.append(" and ");
+            }
+            info.append(currentLevelData.cardAt(i).getName());
+        }
+        return info.toString();
+    }
+
+    public Deck getDeck() {
+        return deck;
+    }
+
+    public LevelSchedule getSchedule() {
+        return schedule;
+    }
+
+    @Override
+    public int getDeckCount() {
+        return deck.getDeckCount();
+    }
+
+    @Override
+    public String getDifficulty() {
+        return difficulty;
+    }
+
+    public Level getCurrentLevel() {
+        return currentLevelData;
+    }
+
+    // whether the current level's cards were dealt by the look-ahead
+    public boolean isCurrentLevelDealtAhead() {
+        return currentLevelDealtAhead;
+    }
+
+    @Override
+    public int getLevelNumber() {
+        return currentLevelNumber;
+    }
+
+    @Override
+    public int getScore() {
+        return score;
+    }
+
+    @Override
+    public int getHintsRemaining() {
+        return totalHintsRemaining;
+    }
+
+    @Override
+    public boolean isHintAllowed() {
+        return schedule.isHintAllowed(currentLevelNumber);
+    }
+
+    public boolean isHintUsedThisLevel() {
+        return hintUsedThisLevel;
+    }
+
+    public boolean isLevelInProgress() {
+        return levelInProgress;
+    }
+
+    public boolean isGameWon() {
+        return gameWon;
+    }
+
+    @Override
+    public int getGuessIndex() {
+        return guessIndex;
+    }
+
+    @Override
+    public int getCardsInLevel() {
+        if (currentLevelData == null) {
+            return 0;
+        }
+        return currentLevelData.getInitialCardsToGuessCount();
+    }
+
+    @Override
+    public int getSecondsLeft() {
+        return secondsLeft;
+    }
+
+    @Override
+    public boolean isEasyMode() {
+        return easyMode;
+    }
+
+    @Override
+    public int getHintCategory() {
+        return hintCategory;
+    }
+
+    @Override
+    public int getRevealedSuitCount(int suit) {
+        return revealedBySuit[suit];
+    }
+
+    @Override
+    public int getRevealedRankCount(int rank) {
+        return revealedByRank[rank];
+    }
+
+    @Override
+    public int getRevealedCount() {
+        return revealedCount;
+    }
+}
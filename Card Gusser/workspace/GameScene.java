@@ -21,6 +21,7 @@ import javafx.scene.Node;
 import javafx.scene.control.*;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
@@ -28,78 +29,106 @@ import javafx.scene.text.FontWeight;
 import javafx.scene.text.Text;
 import javafx.util.Duration;
 
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.random.RandomGenerator;
 
 
-public class GameScene {
+public class GameScene implements GameEngine.Listener {
+
+    // on-screen size of a card
+    public static final double CARD_WIDTH = 120;
+    public static final double CARD_HEIGHT = 180;
 
     private Main mainApp;           
-    private Deck deck;              // the deck of cards for the game
-    private String difficulty;      // easy or hard
-    private Level currentLevelData; 
-    private int currentLevelNumber; 
-    private int score;              
-    private int totalHintsRemaining;
-    private boolean hintUsedThisLevel; 
+    private final GameEngine engine; // the game rules and state, this class only shows them
+
+    // -Dcardguesser.expectedScore=true shows the expected final score with best play next to the score
+    private static final boolean SHOW_EXPECTED_SCORE = Boolean.getBoolean("cardguesser.expectedScore");
+    private static final int EXPECTED_SCORE_GUESS_SECONDS = 2; // assumed time a wrong guess costs
+    // the solver is built and run on a loader worker, one solve after another, so only those tasks touch it
+    private ExpectedScoreSolver expectedScoreSolver; // made for the current difficulty when first needed
+    private String expectedScoreSolverDifficulty;
+    private CompletableFuture<Void> expectedScoreWork = CompletableFuture.completedFuture(null);
+    private int expectedScoreRequest; // bumped per request, older answers are dropped
+    private String expectedScoreText = ""; // last answer, shown until a newer one is ready
+
+    // -Dcardguesser.demo=random|hint-greedy|color-hint|card-counting lets a bot play on screen
+    private static final String DEMO_STRATEGY = System.getProperty("cardguesser.demo");
+    private static final double DEMO_MOVE_SECONDS = CardCountingStrategy.DEFAULT_GUESS_SECONDS;
+    private Strategy demoBot;
+    private Timeline demoTimeline;  // makes one bot move every DEMO_MOVE_SECONDS
+    private boolean demoNewCard;    // a new card is up, the bot has not been told yet
+    private final RandomGenerator demoRandom = new SplittableRandom();
 
     // ui elements 
-    private ImageView cardImageView2; 
+    private final List<ImageView> cardViews = new ArrayList<>(); // one per card of the biggest level so far
     private HBox cardDisplayArea;     
     private BorderPane layout;
     private VBox centerArea;
     private Text playerInfoText;
     private Text timerText;
-    private ImageView cardImageView;
     private HBox guessInputBox;
     private ComboBox<String> suitComboBox; // dropdown for easy mode
     private ComboBox<String> rankComboBox; // dropdown for hard mode
+    private Label suitLabel;
+    private Label rankLabel;
+    private String shownInputDifficulty;   // which inputs are currently in guessInputBox
     private Button guessButton;
     private Button hintButton;
     private Button restartButton;
+    private Button muteButton;
     private Button quitToMenuButton;
     private Text feedbackText;      // shows correct, incorrect, hints
 
+    // level transition timing: from the call that starts the next level to its cards being shown, 0 when metrics are off
+    private long transitionStartNanos;
+
+    // -Dcardguesser.metrics=true, press F12 to print them
+    private static final Metrics.Histogram GUESS_FEEDBACK_TIME = Metrics.histogram("guess.feedback");
+    private static final Metrics.Histogram LEVEL_START_TIME = Metrics.histogram("level.start");
+    private static final Metrics.Histogram LEVEL_START_AHEAD_TIME = Metrics.histogram("level.start.dealtAhead");
+    private static final Metrics.Histogram CARD_REVEAL_TIME = Metrics.histogram("card.reveal");
+    private static final Metrics.Counter GUESSES = Metrics.counter("guess.count");
+    private static final Metrics.Counter WRONG_GUESSES = Metrics.counter("guess.wrong");
+    private static final Metrics.Counter HINTS = Metrics.counter("hint.count");
+    private static final Metrics.Counter LEVELS_COMPLETED = Metrics.counter("level.completed");
+    private static final Metrics.Counter HINTED_LEVELS = Metrics.counter("level.completed.hinted");
+    private static final Metrics.Counter XP_EARNED = Metrics.counter("level.xp");
+
     // timer stuff
-    private Timeline levelTimer;    // the timer itself
-    private int secondsLeft;        // how many seconds are left on the timer
+    private Timeline levelTimer;    // the timer itself, ticks the engine once a second
 
     // card image
     private Image cardBackImage;    
+    private Image atlasSheet;       // all cards in one image when atlas mode is on, otherwise null
     // lists of possible suits and ranks 
-    private final List<String> SUITS = List.of("Hearts", "Diamonds", "Clubs", "Spades");
-    private final List<String> RANKS = List.of("2", "3", "4", "5", "6", "7", "8", "9", "10", "Jack", "Queen", "King", "Ace");
-
-    // game state flag
-    private boolean levelInProgress; // is the player currently playing a level
-    private int level10GuessIndex; // 0 = guessing first card, 1 = guessing second card
+    private final List<String> SUITS = GuessValues.SUITS;
+    private final List<String> RANKS = GuessValues.RANKS;
 
     // sets up the game scene object
     public GameScene(Main mainApp) {
         this.mainApp = mainApp;
-        this.difficulty = mainApp.getDifficulty();
-        this.deck = mainApp.getGameDeck();
-        this.currentLevelNumber = 1;
-        this.score = 0;
-        this.totalHintsRemaining = 3;
+        this.engine = new GameEngine(mainApp.getGameDeck(), mainApp.getDifficulty());
+        this.engine.setListener(this);
+        this.engine.setLookAhead(true); // deal the next level while this one is played
         loadResources();
     }
 
     // loads the card back image resource
      private void loadResources() {
-         try {
-             InputStream cs = getClass().getResourceAsStream("/workspace/Card_images/0_back_of_card.png");
-             if (cs != null) {
-                 cardBackImage = new Image(cs);
-             } 
-             else {
-                 cardBackImage = null;
-                 System.err.println("Card back image resource not found!");
+         if (CardAtlas.isEnabled()) {
+             atlasSheet = AssetLoader.cardAtlas().join();
+             if (atlasSheet != null) {
+                 return; // the back is part of the sheet
              }
-         } catch (Exception e) {
-             System.err.println("Error loading card back image: " + e);
-             cardBackImage = null;
+             System.err.println("Card atlas missing, falling back to single images");
+         }
+         cardBackImage = AssetLoader.cardBackImage().join(); // usually decoded in the background already
+         if (cardBackImage == null) {
+             System.err.println("Card back image resource not found!");
          }
      }
 
@@ -112,10 +141,78 @@ public class GameScene {
         layout.setCenter(createCenterArea());
         layout.setBottom(createBottomBar());
 
-        startLevel(currentLevelNumber);
+        // keyboard guesses skip the dropdowns entirely
+        layout.addEventFilter(KeyEvent.KEY_PRESSED, this::handleGuessKey);
+
+        startNewGame();
         return layout;
     }
 
+    // starts the bot that plays the game on screen in demo mode, made on the first game and reused after
+    private void startDemo() {
+        if (demoTimeline == null) {
+            try {
+                demoBot = Strategy.create(DEMO_STRATEGY);
+            }
+            catch (IllegalArgumentException e) {
+                System.err.println(e.getMessage() + ", demo mode needs one of " + String.join(", ", Strategy.NAMES));
+                return;
+            }
+            demoTimeline = new Timeline(new KeyFrame(Duration.seconds(DEMO_MOVE_SECONDS), event -> playDemoMove()));
+            demoTimeline.setCycleCount(Timeline.INDEFINITE);
+        }
+        demoTimeline.playFromStart();
+    }
+
+    // stops the bot, the timeline would otherwise keep ticking after the game screen is left
+    private void stopDemo() {
+        if (demoTimeline != null) {
+            demoTimeline.stop();
+        }
+    }
+
+    // leaves the game for the difficulty screen
+    private void quitToMenu() {
+        stopDemo();
+        mainApp.showDifficultyScene();
+    }
+
+    // lets the bot guess or take a hint through the same paths as the player's controls
+    private void playDemoMove() {
+        if (layout.getScene() == null || !engine.isLevelInProgress()) {
+            return; // another screen, a popup, or a card being flipped
+        }
+        if (demoNewCard) {
+            demoNewCard = false;
+            demoBot.newCard(engine);
+        }
+        int move = demoBot.nextMove(engine, demoRandom);
+        if (move == Strategy.USE_HINT) {
+            useHint();
+            return;
+        }
+        if (engine.isEasyMode() && suitComboBox != null) {
+            suitComboBox.setValue(SUITS.get(move)); // show what the bot guessed
+        } else if (!engine.isEasyMode() && rankComboBox != null) {
+            rankComboBox.setValue(RANKS.get(move - 2));
+        }
+        if (!submitGuess(move)) {
+            demoBot.guessRejected(move);
+        }
+    }
+
+    // resets the game in place so the same screen and controls can be reused for a new game
+    public void startNewGame() {
+        stopTimer();
+        engine.setDifficulty(mainApp.getDifficulty()); // may have changed on the difficulty screen
+        updateMuteButtonText(); // mute may have been toggled on another screen
+        transitionStartNanos = Metrics.now();
+        engine.startNewGame(); // start level 1 with a fresh score, this also shuffles the deck
+        if (DEMO_STRATEGY != null) {
+            startDemo();
+        }
+    }
+
 
     // creates the top info bar score, timer, and mute button
     private HBox createTopBar() {
@@ -127,7 +224,7 @@ public class GameScene {
         timerText.setFont(Font.font("Arial", FontWeight.BOLD, 16));
         timerText.setFill(Color.YELLOW);
 
-        Button muteButton = createMuteButton(mainApp);
+        muteButton = createMuteButton(mainApp);
 
         Region spacer = new Region();
         HBox.setHgrow(spacer, Priority.ALWAYS);
@@ -146,33 +243,22 @@ public class GameScene {
         centerArea.setPadding(new Insets(20));
         List<Node> nodesToAdd = new ArrayList<>();
 
-        // HBox to hold one or two card views
+        // HBox to hold a view for each card of the level
         cardDisplayArea = new HBox(10); 
         cardDisplayArea.setAlignment(Pos.CENTER);
 
-        // Create both ImageViews
-        cardImageView = new ImageView();
-        cardImageView.setFitWidth(120); 
-        cardImageView.setFitHeight(180);
-
-        cardImageView2 = new ImageView(); // second card view (for level 10)
-        cardImageView2.setFitWidth(120);
-         cardImageView2.setFitHeight(180);
-
-        if (cardBackImage != null) {
-            cardImageView.setImage(cardBackImage);
-            cardImageView2.setImage(cardBackImage); // Set back image initially for both
-            cardDisplayArea.getChildren().add(cardImageView); // Add first view now
+        if (hasCardImages()) {
+            cardDisplayArea.getChildren().add(cardView(0)); // Add first view now
         } 
         else {
             StackPane cardPlaceholder = new StackPane(new Label("Card Back\nMissing"));
-            cardPlaceholder.setPrefSize(120 * 2 + 10, 180); 
+            cardPlaceholder.setPrefSize(CARD_WIDTH * 2 + 10, CARD_HEIGHT); 
             cardPlaceholder.setStyle("-fx-border-color: white; -fx-border-width: 1;");
             nodesToAdd.add(cardPlaceholder); // Add placeholder instead of HBox
         }
 
         // Add the card display HBox if images loaded
-        if (cardBackImage != null) {
+        if (hasCardImages()) {
             nodesToAdd.add(cardDisplayArea);
         }
 
@@ -221,282 +307,265 @@ public class GameScene {
          return bottomBar;
      }
 
-    // sets up and starts a new level
-    private void startLevel(int levelNum) {
-        this.currentLevelNumber = levelNum;
-        this.hintUsedThisLevel = false; 
-        this.levelInProgress = true;
-        this.level10GuessIndex = 0;
-
-        if (levelNum == 1) { deck.shuffle(); }
-
-        currentLevelData = new Level(deck, levelNum);
-
-        if (currentLevelData == null || currentLevelData.getCardsToGuess().isEmpty()) {
-            System.err.println("Failed start level " + levelNum);
-            // show error popup safely
-            Platform.runLater(() -> {
-                Alert errorAlert = new Alert(Alert.AlertType.ERROR, "Could not start level " + levelNum + ".\nReturning to menu.", ButtonType.OK);
-                errorAlert.setTitle("Level Error"); errorAlert.setHeaderText("Card Drawing Failed");
-                stopTimer(); 
-                errorAlert.showAndWait(); 
-                mainApp.showDifficultyScene();
-            });
-            return;
-        }
-
+    // shows a level the engine has just started
+    @Override
+    public void levelStarted(int levelNum, int cardCount) {
         updatePlayerInfoUI();
         resetCardView(); // reset both image views to card back
         setupGuessInputsForLevel();
         feedbackText.setText(""); feedbackText.setFill(Color.CYAN);
         enableControls(); // make buttons clickable
 
-        // manage visibility and content of the card display area
+        // show one view per card of the level, the views are made once and reused
         cardDisplayArea.getChildren().clear(); // clear previous cards
-        cardDisplayArea.getChildren().add(cardImageView); // always add the first one
-        if (levelNum == 10 && cardImageView2 != null) {
-            // level 10: add the second image view as well
-            cardDisplayArea.getChildren().add(cardImageView2);
-            feedbackText.setText("Level 10: Guess the first card!"); // initial prompt
+        for (int i = 0; i < Math.max(1, cardCount); i++) {
+            cardDisplayArea.getChildren().add(cardView(i));
+        }
+        if (cardCount > 1) {
+            feedbackText.setText("Level " + levelNum + ": Guess the first of " + cardCount + " cards!"); // initial prompt
         }
 
         startTimer();   
-        System.out.println("Starting Level: " + levelNum);
+        demoNewCard = true;
+        // every start, and separately the ones the look-ahead had already dealt
+        LEVEL_START_TIME.recordSince(transitionStartNanos);
+        if (engine.isCurrentLevelDealtAhead()) {
+            LEVEL_START_AHEAD_TIME.recordSince(transitionStartNanos);
+        }
+        transitionStartNanos = 0;
+        if (!engine.isCurrentLevelDealtAhead()) {
+            AssetLoader.prefetchCards(engine.getCurrentLevel().getCardsToGuess()); // level 1, nothing was dealt ahead
+        }
+    }
+
+    // the next level's cards are known, decode their faces in the background before they are revealed
+    @Override
+    public void levelPrepared(int levelNumber, Level level) {
+        AssetLoader.prefetchCards(level.getCardsToGuess());
+    }
+
+    // called when the engine could not draw the cards for a level
+    @Override
+    public void levelStartFailed(int levelNum) {
+        System.err.println("Failed start level " + levelNum);
+        // show error popup safely
+        Platform.runLater(() -> {
+            Alert errorAlert = new Alert(Alert.AlertType.ERROR, "Could not start level " + levelNum + ".\nReturning to menu.", ButtonType.OK);
+            errorAlert.setTitle("Level Error"); errorAlert.setHeaderText("Card Drawing Failed");
+            stopTimer(); 
+            errorAlert.showAndWait(); 
+            quitToMenu();
+        });
     }
 
     // sets up the correct guess input dropdowns based on difficulty
+    // the controls are built once per difficulty, later levels only reset the selection
     private void setupGuessInputsForLevel() {
-        guessInputBox.getChildren().clear(); // clear old ones
-        suitComboBox = null; // reset
-        rankComboBox = null;
-
         // easy mode
-        if (difficulty.equals("Easy")) {
-            suitComboBox = new ComboBox<>();
-            suitComboBox.getItems().addAll(SUITS);
+        if (engine.getDifficulty().equals("Easy")) {
+            if (suitComboBox == null) {
+                suitComboBox = new ComboBox<>();
+                suitComboBox.getItems().addAll(SUITS);
+                suitLabel = new Label("Guess Suit:");
+                suitLabel.setStyle("-fx-text-fill: white; -fx-font-weight: bold;");
+            }
+            if (!engine.getDifficulty().equals(shownInputDifficulty)) {
+                guessInputBox.getChildren().setAll(suitLabel, suitComboBox);
+            }
             suitComboBox.setValue(SUITS.get(0)); 
-            Label suitLabel = new Label("Guess Suit:");
-            suitLabel.setStyle("-fx-text-fill: white; -fx-font-weight: bold;");
-            guessInputBox.getChildren().addAll(suitLabel, suitComboBox);
         }
         // hard mode
-        else if (difficulty.equals("Hard")) {
-            rankComboBox = new ComboBox<>();
-            rankComboBox.getItems().addAll(RANKS);
+        else if (engine.getDifficulty().equals("Hard")) {
+            if (rankComboBox == null) {
+                rankComboBox = new ComboBox<>();
+                rankComboBox.getItems().addAll(RANKS);
+                rankLabel = new Label("Guess Rank:");
+                rankLabel.setStyle("-fx-text-fill: white; -fx-font-weight: bold;");
+            }
+            if (!engine.getDifficulty().equals(shownInputDifficulty)) {
+                guessInputBox.getChildren().setAll(rankLabel, rankComboBox);
+            }
             rankComboBox.setValue(RANKS.get(0)); 
-            Label rankLabel = new Label("Guess Rank:");
-            rankLabel.setStyle("-fx-text-fill: white; -fx-font-weight: bold;");
-            guessInputBox.getChildren().addAll(rankLabel, rankComboBox);
         }
+        shownInputDifficulty = engine.getDifficulty();
+        layout.requestFocus(); // so guess keys reach the key filter straight away
     }
 
-
-    // handles the player clicking the Guess button 
-    private void processGuess() {
-        if (!levelInProgress || currentLevelData == null || currentLevelData.getCardsToGuess().isEmpty()) {
+    // maps a key press to a suit (easy) or rank (hard) and submits it as a guess
+    // easy: H, D, C, S   hard: 2-9, T (or 0 / 1) for 10, J, Q, K, A
+    private void handleGuessKey(KeyEvent event) {
+        if (!engine.isLevelInProgress()) {
             return;
         }
-
-        List<Card> targetCards = currentLevelData.getCardsToGuess();
-        boolean correct = false;
-        Card currentCardToGuess = null;
-        int currentGuessIndex;
-
-        // determine current guess index
-        if (currentLevelNumber == 10) {
-            currentGuessIndex = level10GuessIndex;
-        } else {
-            currentGuessIndex = 0;
+        int guessedValue = -1;
+        if (engine.getDifficulty().equals("Easy")) {
+            switch (event.getCode()) {
+                case H: guessedValue = 0; break;
+                case D: guessedValue = 1; break;
+                case C: guessedValue = 2; break;
+                case S: guessedValue = 3; break;
+                default: break;
+            }
+            if (guessedValue != -1 && suitComboBox != null) {
+                suitComboBox.setValue(SUITS.get(guessedValue)); // show what was guessed
+            }
+        } else if (engine.getDifficulty().equals("Hard")) {
+            switch (event.getCode()) {
+                case DIGIT2: case NUMPAD2: guessedValue = 2; break;
+                case DIGIT3: case NUMPAD3: guessedValue = 3; break;
+                case DIGIT4: case NUMPAD4: guessedValue = 4; break;
+                case DIGIT5: case NUMPAD5: guessedValue = 5; break;
+                case DIGIT6: case NUMPAD6: guessedValue = 6; break;
+                case DIGIT7: case NUMPAD7: guessedValue = 7; break;
+                case DIGIT8: case NUMPAD8: guessedValue = 8; break;
+                case DIGIT9: case NUMPAD9: guessedValue = 9; break;
+                case T: case DIGIT0: case NUMPAD0: case DIGIT1: case NUMPAD1: guessedValue = 10; break;
+                case J: guessedValue = 11; break;
+                case Q: guessedValue = 12; break;
+                case K: guessedValue = 13; break;
+                case A: guessedValue = 14; break;
+                default: break;
+            }
+            if (guessedValue != -1 && rankComboBox != null) {
+                rankComboBox.setValue(RANKS.get(guessedValue - 2)); // show what was guessed
+            }
         }
-
-        // validate index
-        if (currentGuessIndex < 0 || currentGuessIndex >= targetCards.size()) {
-            System.err.println("Error: Invalid guess index " + currentGuessIndex + " for level " + currentLevelNumber);
-            return;
+        if (guessedValue != -1) {
+            event.consume();
+            submitGuess(guessedValue);
         }
+    }
 
-        currentCardToGuess = targetCards.get(currentGuessIndex);
 
-        // check guess based on difficulty
-        if (difficulty.equals("Easy")) {
+    // handles the player clicking the Guess button 
+    private void processGuess() {
+        int guessedValue = -1;
+        if (engine.getDifficulty().equals("Easy")) {
             String guessedSuitStr = null;
             if (suitComboBox != null) {
                 guessedSuitStr = suitComboBox.getValue();
             }
-            int guessedSuitInt = convertSuitToInt(guessedSuitStr);
-            if (guessedSuitInt == currentCardToGuess.getSuit()) {
-                correct = true;
-            }
-        } else if (difficulty.equals("Hard")) {
+            guessedValue = GuessValues.suitValueOf(guessedSuitStr);
+        } else if (engine.getDifficulty().equals("Hard")) {
             String guessedRankStr = null;
             if (rankComboBox != null) {
                 guessedRankStr = rankComboBox.getValue();
             }
-            int guessedRankInt = convertRankToInt(guessedRankStr);
-            if (guessedRankInt == currentCardToGuess.getRank()) {
-                correct = true;
-            }
+            guessedValue = GuessValues.rankValueOf(guessedRankStr);
         }
+        submitGuess(guessedValue);
+    }
 
-        // handle result
+    // checks a guessed suit (easy) or rank (hard) against the current card, returns whether it was right
+    private boolean submitGuess(int guessedValue) {
+        long start = Metrics.now();
+        boolean correct = engine.guess(guessedValue); // the screen is updated through guessChecked
+        GUESS_FEEDBACK_TIME.recordSince(start);
+        GUESSES.increment();
+        if (!correct) {
+            WRONG_GUESSES.increment();
+        }
+        return correct;
+    }
+
+    // shows the result of a guess
+    @Override
+    public void guessChecked(Card currentCardToGuess, int currentGuessIndex, boolean correct, boolean levelComplete) {
         if (correct) {
-            SoundManager.playSound(SoundManager.SOUND_CORRECT);
-            animateCardFlip(currentCardToGuess, true, currentGuessIndex);
-
-            if (currentLevelNumber == 10) {
-                if (currentGuessIndex == 0) {
-                    // first card correct in level 10
-                    levelInProgress = true;
-                    level10GuessIndex = 1;
-                    feedbackText.setText("First card correct! Now guess the second card.");
-                    feedbackText.setFill(Color.LIGHTBLUE);
-                    hintUsedThisLevel = false;
-                    if (totalHintsRemaining > 0) {
-                        hintButton.setDisable(false);
-                    } else {
-                        hintButton.setDisable(true);
-                    }
-                    stopTimer();
-                    startTimer();
+            SoundManager.playSound(SoundEffect.CORRECT);
+            animateCardFlip(currentCardToGuess, true, currentGuessIndex, levelComplete);
+
+            if (!levelComplete) {
+                // a card correct with more to guess in this level
+                feedbackText.setText("Card " + (currentGuessIndex + 1) + " correct! Now guess card "
+                        + (currentGuessIndex + 2) + " of " + engine.getCardsInLevel() + ".");
+                feedbackText.setFill(Color.LIGHTBLUE);
+                if (engine.getHintsRemaining() > 0 && engine.isHintAllowed()) {
+                    hintButton.setDisable(false);
                 } else {
-                    // second card correct in level 10
-                    levelInProgress = false;
-                    stopTimer();
-                    disableControls();
-                    awardXP();
-                    updatePlayerInfoUI();
-                    feedbackText.setText("Second card correct! Level 10 Complete!");
-                    feedbackText.setFill(Color.LIMEGREEN);
+                    hintButton.setDisable(true);
                 }
+                stopTimer();
+                startTimer();
+                demoNewCard = true;
             } else {
-                // correct guess for levels 1-9
-                levelInProgress = false;
                 stopTimer();
                 disableControls();
-                awardXP();
                 updatePlayerInfoUI();
-                feedbackText.setText("Correct!");
+                if (currentGuessIndex > 0) {
+                    // last card of a multi-card level
+                    feedbackText.setText("Last card correct! Level " + engine.getLevelNumber() + " Complete!");
+                } else {
+                    // correct guess for a one card level
+                    feedbackText.setText("Correct!");
+                }
                 feedbackText.setFill(Color.LIMEGREEN);
             }
         } else {
-            SoundManager.playSound(SoundManager.SOUND_WRONG);
+            SoundManager.playSound(SoundEffect.WRONG);
             feedbackText.setText("Incorrect! Try again.");
             feedbackText.setFill(Color.RED);
         }
     }
 
+    // counts the level and the score earned for it
+    @Override
+    public void levelCompleted(int levelNumber, int earnedXP, boolean hintUsed) {
+        LEVELS_COMPLETED.increment();
+        XP_EARNED.add(earnedXP);
+        if (hintUsed) {
+            HINTED_LEVELS.increment();
+        }
+    }
+
 
     // called only after the FINAL correct guess animation for a level finishes
     private void handlePostFlip(boolean wasCorrect) {
         if (wasCorrect) {
-            final int MAX_LEVELS = 10;
-
-            // Check if the level just fully completed was the final one needed
-            // This should only be true if we just finished level 10 (cardIndex==1) or level < 10
-            if (currentLevelNumber == MAX_LEVELS) { // Win condition
-                SoundManager.playSound(SoundManager.SOUND_WIN);
-                Platform.runLater(() -> showEndGamePopup(true, "Congratulations! You beat " + difficulty + " mode!"));
+            if (engine.isGameWon()) { // Win condition
+                SoundManager.playSound(SoundEffect.WIN);
+                Platform.runLater(() -> showEndGamePopup(true, "Congratulations! You beat " + engine.getDifficulty() + " mode!"));
             } 
-            else if (currentLevelNumber < MAX_LEVELS) { 
+            else { 
                 PauseTransition delay = new PauseTransition(Duration.seconds(0.75));
-                delay.setOnFinished(e -> startLevel(currentLevelNumber + 1));
+                delay.setOnFinished(e -> {
+                    transitionStartNanos = Metrics.now();
+                    engine.startNextLevel();
+                });
                 delay.play();
             }
         }
     }
 
     private void useHint() {
-        if (totalHintsRemaining > 0 && levelInProgress && currentLevelData != null && !currentLevelData.getCardsToGuess().isEmpty()) {
-    
-            // determine which card to give hint for based on level 10 state
-            int cardIndex;
-            if (currentLevelNumber == 10) {
-                cardIndex = level10GuessIndex;
-            } else {
-                cardIndex = 0;
-            }
-    
-            Card targetCard = null;
-            if (cardIndex >= 0 && cardIndex < currentLevelData.getCardsToGuess().size()) {
-                targetCard = currentLevelData.getCardsToGuess().get(cardIndex);
-            }
-    
-            if (targetCard == null) return;
-    
-            totalHintsRemaining--;
-    
-            // only flag hintUsedThisLevel if it's the final guess required for the level's score
-            if (currentLevelNumber < 10) {
-                hintUsedThisLevel = true;
-            } else if (currentLevelNumber == 10 && level10GuessIndex == 1) {
-                hintUsedThisLevel = true;
-            }
-    
-            hintButton.setDisable(true); // disable hint button after use 
-            updatePlayerInfoUI();
-            feedbackText.setFill(Color.ORANGE);
-    
-            // provide vague hint based on difficulty and the target card
-            if (difficulty.equals("Easy")) {
-                int suit = targetCard.getSuit();
-                String colorHint;
-                if (suit <= 1) {
-                    colorHint = "Red (Hearts/Diamonds)";
-                } else {
-                    colorHint = "Black (Clubs/Spades)";
-                }
-                feedbackText.setText("Hint: The suit color is " + colorHint);
-            } else if (difficulty.equals("Hard")) {
-                int rank = targetCard.getRank();
-                String rangeHint;
-                if (rank <= 6) {
-                    rangeHint = "Low (2-6)";
-                } else if (rank <= 10) {
-                    rangeHint = "Medium (7-10)";
-                } else {
-                    rangeHint = "High (Jack-Ace)";
-                }
-                feedbackText.setText("Hint: The rank is in the " + rangeHint + " range.");
-            }
-    
-            if (totalHintsRemaining <= 0) {
-                hintButton.setDisable(true);
-            }
-    
-        } else if (totalHintsRemaining <= 0) {
+        if (engine.useHint() == null && engine.getHintsRemaining() <= 0) {
             feedbackText.setText("No hints remaining!");
             feedbackText.setFill(Color.YELLOW);
             hintButton.setDisable(true);
+        } else if (!engine.isHintAllowed()) {
+            feedbackText.setText("No hints on this level!");
+            feedbackText.setFill(Color.YELLOW);
+            hintButton.setDisable(true);
         }
     }
-    
-
 
-    // calculates and adds score for completing a level
-    private void awardXP() {
-        int levelBonus = currentLevelNumber;
-        int earnedXP;
-        // simple score: 10 base + level number, but only 5 if hint used
-        if (hintUsedThisLevel) {
-            earnedXP = 5;
-        }
-        else {
-            earnedXP = 10 + levelBonus;
-        }
-        score += earnedXP; // add score
-
-        System.out.println("Level " + currentLevelNumber + " complete. +" + earnedXP + " XP (Hint used: " + hintUsedThisLevel + ")");
+    // shows a hint the engine has given
+    @Override
+    public void hintUsed(Card targetCard, String hintText) {
+        HINTS.increment();
+        hintButton.setDisable(true); // disable hint button after use 
+        updatePlayerInfoUI();
+        feedbackText.setFill(Color.ORANGE);
+        feedbackText.setText(hintText);
     }
 
-
     // called when the timer runs out
-    private void handleTimeout() {
-         if (!levelInProgress) return;
-         levelInProgress = false; 
+    @Override
+    public void timedOut(int levelNumber) {
          stopTimer(); 
          disableControls(); 
-         SoundManager.playSound(SoundManager.SOUND_LOSE);
-         Platform.runLater(() -> showEndGamePopup(false, "Time's up! The card was: " + getTargetCardInfo()));
+         SoundManager.playSound(SoundEffect.LOSE);
+         Platform.runLater(() -> showEndGamePopup(false, "Time's up! The card was: " + engine.getTargetCardInfo()));
      }
 
      // helper to disable all interactive controls
@@ -530,7 +599,7 @@ public class GameScene {
             quitToMenuButton.setDisable(false);
          }
          if (hintButton != null) {
-            hintButton.setDisable(totalHintsRemaining <= 0 || !levelInProgress);
+            hintButton.setDisable(engine.getHintsRemaining() <= 0 || !engine.isHintAllowed() || !engine.isLevelInProgress());
          }
          if (restartButton != null) {
             restartButton.setDisable(false);
@@ -547,33 +616,31 @@ public class GameScene {
     // handles the Restart Game button click
     private void askToRestartGame() {
         stopTimer(); 
-        boolean wasInProgress = levelInProgress; // remember if level was active
-        levelInProgress = false; 
+        boolean wasInProgress = engine.pause(); // remember if level was active
 
         // show confirmation dialog
         Alert alert = new Alert(Alert.AlertType.CONFIRMATION);
         alert.setTitle("Restart Game");
         alert.setHeaderText("Restart from Level 1?");
-        alert.setContentText("Restart "+difficulty+" mode from Level 1? Score resets.");
+        alert.setContentText("Restart "+engine.getDifficulty()+" mode from Level 1? Score resets.");
 
         // get the users choice ok or cancel
         ButtonType result = alert.showAndWait().orElse(ButtonType.CANCEL); // default cancel
 
         if (result == ButtonType.OK) { // user confirmed restart
-             deck.shuffle(); score = 0; totalHintsRemaining = 3; // reset state
-             startLevel(1); // start level 1
+             startNewGame(); // start level 1 with a fresh score
         } 
         else { // user cancelled
-            levelInProgress = wasInProgress; // restore state
+            engine.resume(); // restore state
             // resume timer only if level was active before
-            if (wasInProgress && secondsLeft > 0 && levelTimer != null) {
+            if (wasInProgress && engine.getSecondsLeft() > 0 && levelTimer != null) {
                  levelTimer.play(); 
                  enableControls(); 
             } 
             else { 
                  disableControls();
                  // ensure timer shows 0 and is red if time was up or timer invalid
-                 if (secondsLeft <=0) {
+                 if (engine.getSecondsLeft() <=0) {
                     updateTimerText(); 
                     if(timerText != null) timerText.setFill(Color.RED);
                  }
@@ -584,14 +651,13 @@ public class GameScene {
     // handles the Quit to Menu button 
     private void askToQuitToMenu() {
         stopTimer(); 
-        boolean wasInProgress = levelInProgress; // remember state
-        levelInProgress = false; // prevent actions
+        boolean wasInProgress = engine.pause(); // remember state, prevent actions
 
         // show confirmation dialog
         Alert alert = new Alert(Alert.AlertType.CONFIRMATION);
         alert.setTitle("Quit Game");
         alert.setHeaderText("Quit to Menu?");
-        alert.setContentText("Return to difficulty selection? Score (" + score + ") is lost.");
+        alert.setContentText("Return to difficulty selection? Score (" + engine.getScore() + ") is lost.");
         ButtonType yesButton = new ButtonType("Yes, Quit", ButtonBar.ButtonData.OK_DONE);
         ButtonType noButton = new ButtonType("No, Continue", ButtonBar.ButtonData.CANCEL_CLOSE);
         alert.getButtonTypes().setAll(yesButton, noButton);
@@ -600,19 +666,19 @@ public class GameScene {
         ButtonType result = alert.showAndWait().orElse(noButton); // default no
 
         if (result == yesButton) { // user confirmed quit
-            mainApp.showDifficultyScene(); // go back to difficulty screen
+            quitToMenu(); // go back to difficulty screen
         } 
         else { 
-            levelInProgress = wasInProgress; // restore state
+            engine.resume(); // restore state
             // resume timer only if level was active before
-            if (wasInProgress && secondsLeft > 0 && levelTimer != null) {
+            if (wasInProgress && engine.getSecondsLeft() > 0 && levelTimer != null) {
                  levelTimer.play();
                  enableControls(); 
             } 
             else { 
                 disableControls();
                 // ensure timer shows 0 and is red if time was up or timer invalid
-                if (secondsLeft <=0) {
+                if (engine.getSecondsLeft() <=0) {
                    updateTimerText(); // Make sure text shows 0
                    if(timerText != null) timerText.setFill(Color.RED);
                 }
@@ -623,41 +689,52 @@ public class GameScene {
     // starts the level timer
     private void startTimer() {
         stopTimer(); 
-        secondsLeft = 15; // set timer duration 
-        updateTimerText(); // display initial time
+        updateTimerText(); // display initial time, the engine resets it for every card
         timerText.setFill(Color.YELLOW);
 
-        levelTimer = new Timeline(); 
-        levelTimer.setCycleCount(Timeline.INDEFINITE);
+        if (levelTimer == null) {
+            levelTimer = createLevelTimer(); // built once, replayed every level
+        }
+        levelTimer.playFromStart(); // start the timer running
+    }
+
+    // creates the one second countdown timeline
+    private Timeline createLevelTimer() {
+        Timeline timer = new Timeline(); 
+        timer.setCycleCount(Timeline.INDEFINITE);
 
         KeyFrame frame = new KeyFrame(Duration.seconds(1), event -> {
              // check if level ended prematurely 
-             if (!levelInProgress) {
+             if (!engine.isLevelInProgress()) {
                  stopTimer(); // stop timer if level no longer active
                  return;
              }
-
-             secondsLeft--; // count down
-             updateTimerText(); // update display
-
-             if (secondsLeft <= 0) { // check if time ran out
-                 handleTimeout();
-             } 
-             else if (secondsLeft <= 5) { // flash red when time is low
-                 if (secondsLeft % 2 == 0) {
-                     timerText.setFill(Color.RED);
-                 } 
-                 else {
-                     timerText.setFill(Color.WHITE);
-                 }
-             } 
-             else {
-                 timerText.setFill(Color.YELLOW);
-             }
+             engine.tick(); // count down, the engine reports back through timerTicked
         });
 
-        levelTimer.getKeyFrames().add(frame); // add the action to the timer
-        levelTimer.play(); // start the timer running
+        timer.getKeyFrames().add(frame); // add the action to the timer
+        return timer;
+    }
+
+    // updates the timer display for the engine's countdown
+    @Override
+    public void timerTicked(int secondsLeft) {
+        updateTimerText(); // update display
+
+        if (secondsLeft <= 0) { 
+            return; // timedOut handles the rest
+        } 
+        else if (secondsLeft <= 5) { // flash red when time is low
+            if (secondsLeft % 2 == 0) {
+                timerText.setFill(Color.RED);
+            } 
+            else {
+                timerText.setFill(Color.WHITE);
+            }
+        } 
+        else {
+            timerText.setFill(Color.YELLOW);
+        }
     }
 
     // stop time
@@ -668,7 +745,7 @@ public class GameScene {
         // update text display one last time
         updateTimerText();
         // make sure color is red if stopped at 0 or less
-        if (secondsLeft <= 0) {
+        if (engine.getSecondsLeft() <= 0) {
             if (timerText != null) { 
                 timerText.setFill(Color.RED);
             }
@@ -678,140 +755,146 @@ public class GameScene {
     // updates the timer text display
     private void updateTimerText() {
          if (timerText != null) {
-             timerText.setText("Time: " + Math.max(0, secondsLeft));
+             timerText.setText("Time: " + Math.max(0, engine.getSecondsLeft()));
          }
      }
 
     // updates the player info text 
     private void updatePlayerInfoUI() {
         if (playerInfoText != null) {
-            playerInfoText.setText("Level: " + currentLevelNumber + " | Score: " + score + " | Hints: " + totalHintsRemaining);
+            if (SHOW_EXPECTED_SCORE) {
+                requestExpectedScore();
+            }
+            showPlayerInfo();
+        }
+    }
+
+    private void showPlayerInfo() {
+        String info = "Level: " + engine.getLevelNumber() + " | Score: " + engine.getScore() + " | Hints: " + engine.getHintsRemaining();
+        if (SHOW_EXPECTED_SCORE && engine.isLevelInProgress()) {
+            info += expectedScoreText;
+        }
+        playerInfoText.setText(info);
+    }
+
+    // solves for the score so far plus what the solver expects from the rest of the game on a worker,
+    // the first solve of a game takes tens of milliseconds, later ones are memo lookups
+    private void requestExpectedScore() {
+        if (!engine.isLevelInProgress()) {
+            return;
         }
+        // everything the solver needs is read here, on the fx thread
+        int request = ++expectedScoreRequest;
+        String difficulty = engine.getDifficulty();
+        LevelSchedule schedule = engine.getSchedule();
+        int[] unseenCounts = ExpectedScoreSolver.unseenCounts(engine);
+        int level = engine.getLevelNumber();
+        int cardIndex = engine.getGuessIndex();
+        int hints = engine.getHintsRemaining();
+        int score = engine.getScore();
+
+        CompletableFuture<String> answer = expectedScoreWork.thenCompose(ignored -> AssetLoader.supplyAsync(() -> {
+            try {
+                if (expectedScoreSolver == null || !difficulty.equals(expectedScoreSolverDifficulty)) {
+                    expectedScoreSolver = new ExpectedScoreSolver(difficulty, EXPECTED_SCORE_GUESS_SECONDS, schedule);
+                    expectedScoreSolverDifficulty = difficulty;
+                }
+                double expected = score + expectedScoreSolver.expectedScore(unseenCounts, level, cardIndex, hints);
+                return " | Expected: " + Math.round(expected);
+            }
+            catch (IllegalArgumentException e) {
+                return ""; // shoe too big or schedule endless for the solver
+            }
+        })).exceptionally(e -> {
+            // any other failure only loses this answer, the chain must stay usable for the next request
+            System.err.println("Error solving the expected score: " + e.getMessage());
+            return "";
+        });
+        expectedScoreWork = answer.thenAccept(text -> Platform.runLater(() -> {
+            if (request == expectedScoreRequest && playerInfoText != null) {
+                expectedScoreText = text;
+                showPlayerInfo();
+            }
+        })).exceptionally(e -> null); // the fx toolkit is gone, nothing is left to show the answer on
     }
 
     // resets the card image(s) to show the back
     private void resetCardView() {
-        if (cardImageView != null && cardBackImage != null) {
-            cardImageView.setImage(cardBackImage);
-            cardImageView.setRotate(0); cardImageView.setScaleX(1);
+        for (ImageView view : cardViews) {
+            if (hasCardImages()) {
+                showCardBack(view);
+                view.setRotate(0); view.setScaleX(1);
+            }
+            view.setEffect(null); // clear effects
         }
-        // also reset the second image view
-        if (cardImageView2 != null && cardBackImage != null) {
-            cardImageView2.setImage(cardBackImage);
-            cardImageView2.setRotate(0); cardImageView2.setScaleX(1);
+    }
+
+    // the view for a card of the level, made the first time a level deals that many cards
+    private ImageView cardView(int index) {
+        while (cardViews.size() <= index) {
+            ImageView view = new ImageView();
+            view.setFitWidth(CARD_WIDTH);
+            view.setFitHeight(CARD_HEIGHT);
+            if (atlasSheet != null) {
+                view.setImage(atlasSheet); // views keep the sheet for good, flips only move the viewport
+            }
+            if (hasCardImages()) {
+                showCardBack(view);
+            }
+            cardViews.add(view);
         }
-        // clear effects
-        if (cardImageView != null) {
-            cardImageView.setEffect(null);
+        return cardViews.get(index);
+    }
+
+    // true if either the atlas or the single card back image is available
+    private boolean hasCardImages() {
+        return atlasSheet != null || cardBackImage != null;
+    }
+
+    // shows the back of the card in a view
+    private void showCardBack(ImageView view) {
+        if (atlasSheet != null) {
+            view.setViewport(CardAtlas.viewportFor(CardImageCache.BACK_KEY));
+        } else {
+            view.setImage(cardBackImage);
         }
-        if (cardImageView2 != null) {
-            cardImageView2.setEffect(null);
+    }
+
+    // shows the face of a card in a view
+    private void showCardFace(ImageView view, Card card) {
+        if (atlasSheet != null) {
+            view.setViewport(CardAtlas.viewportFor(card)); // no decode, no new image
+        } else {
+            view.setImage(getCardImage(card));
         }
     }
 
     // gets the image object for a specific card
     private Image getCardImage(Card card) {
         if (card == null) return cardBackImage; // safety check
-        String filename = getCardImageFilename(card); // get filename
-        if (filename == null) return cardBackImage; // safety check
-        try {
-            String resourcePath = "/workspace/Card_images/" + filename; // build path
-            InputStream imageStream = getClass().getResourceAsStream(resourcePath); // load stream
-            if (imageStream == null) {
-                System.err.println("Image resource not found: " + resourcePath); 
-                return cardBackImage; 
-            }
-            return new Image(imageStream); // create image
-        }
-        catch (Exception e) { 
-            System.err.println("Error loading image " + filename + ": " + e.getMessage()); 
+        Image image = CardImageCache.getCardImage(card); // decoded once, then served from memory
+        if (image == null) {
             return cardBackImage;
         }
+        return image;
     }
 
-     // generates the filename string for a card image
-     private String getCardImageFilename(Card card) {
-        if (card == null || card.getSuit() < 0 || card.getSuit() >= SUITS.size()) return null; 
-        int rankIndex = card.getRank() - 2; // map rank 2-14 to index 0-12
-        if (rankIndex < 0 || rankIndex >= RANKS.size()) return null; // validate rank
-        String suitName = SUITS.get(card.getSuit()).toLowerCase();
-        String rankName = RANKS.get(rankIndex).toLowerCase();
-        return rankName + "_of_" + suitName + ".png"; 
-     }
-
-     private String getTargetCardInfo() {
-        if (currentLevelData != null && !currentLevelData.getCardsToGuess().isEmpty()) {
-            List<Card> cards = currentLevelData.getCardsToGuess();
-            if (currentLevelNumber == 10 && cards.size() == 2) {
-                // level 10 show both cards
-                String card1Info;
-                if (cards.get(0) != null) {
-                    card1Info = cards.get(0).toString();
-                } else {
-                    card1Info = "Invalid Card 1";
-                }
-    
-                String card2Info;
-                if (cards.get(1) != null) {
-                    card2Info = cards.get(1).toString();
-                } else {
-                    card2Info = "Invalid Card 2";
-                }
-    
-                return card1Info + " and " + card2Info;
-            } else if (!cards.isEmpty()) {
-                // levels 1-9 show the single card
-                Card target = cards.get(0);
-                if (target != null) {
-                    return target.toString();
-                } else {
-                    return "Invalid Card";
-                }
-            }
-        }
-        return "Unknown";  
-    }
-    
-
     // simplified card reveal 
-    private void animateCardFlip(Card cardToShow, boolean correctGuess, int cardIndex) {
-        ImageView targetImageView;
-        if (cardIndex == 1 && cardImageView2 != null) {
-            targetImageView = cardImageView2;
-        } else {
-            targetImageView = cardImageView;
-        }
+    private void animateCardFlip(Card cardToShow, boolean correctGuess, int cardIndex, boolean isFinalGuess) {
+        ImageView targetImageView = cardIndex >= 0 && cardIndex < cardViews.size() ? cardViews.get(cardIndex) : null;
 
         if (targetImageView == null || targetImageView.getScene() == null) {
-            boolean isFinalGuess;
-            if (currentLevelNumber < 10 || cardIndex == 1) {
-                isFinalGuess = true;
-            } else {
-                isFinalGuess = false;
-            }
-
             if (correctGuess && isFinalGuess) {
                 handlePostFlip(true);
             }
             return;
         }
 
-        Image faceImage = getCardImage(cardToShow);
-        if (faceImage == null) {
-            faceImage = cardBackImage;
-        }
-        final Image finalFaceImage = faceImage;
-
         PauseTransition showDelay = new PauseTransition(Duration.millis(200));
         showDelay.setOnFinished(event -> {
-            targetImageView.setImage(finalFaceImage);
-
-            boolean isFinalGuess;
-            if (currentLevelNumber < 10 || cardIndex == 1) {
-                isFinalGuess = true;
-            } else {
-                isFinalGuess = false;
-            }
+            long revealStart = Metrics.now();
+            showCardFace(targetImageView, cardToShow); // a face that missed the prefetch shows up as a slow reveal
+            CARD_REVEAL_TIME.recordSince(revealStart);
 
             if (correctGuess && isFinalGuess) {
                 handlePostFlip(true);
@@ -822,7 +905,7 @@ public class GameScene {
  
     // shows the final popup when game ends 
     private void showEndGamePopup(boolean isWin, String message) {
-        stopTimer(); levelInProgress = false; disableControls(); // stop game state
+        stopTimer(); engine.pause(); disableControls(); // stop game state
         Platform.runLater(() -> {
             Alert.AlertType type; // determine popup type
             if (isWin) { 
@@ -836,84 +919,65 @@ public class GameScene {
 
             if (isWin) { // win popup setup
                 alert.setTitle("Mode Complete!");
-                alert.setContentText("Final Score: " + score + "\nPlay again?");
+                alert.setContentText("Final Score: " + engine.getScore() + "\nPlay again?");
                 // setup buttons for win
-                ButtonType rstGame = new ButtonType("Restart Game (" + difficulty + ")");
+                ButtonType rstGame = new ButtonType("Restart Game (" + engine.getDifficulty() + ")");
                 ButtonType chgDiff = new ButtonType("Change Difficulty");
                 ButtonType quit = new ButtonType("Quit to Menu", ButtonBar.ButtonData.CANCEL_CLOSE);
                 alert.getButtonTypes().setAll(rstGame, chgDiff, quit);
                 // show and handle result
                 ButtonType res = alert.showAndWait().orElse(quit); // default quit
                 if (res == rstGame) { 
-                    deck.shuffle(); score = 0; totalHintsRemaining = 3; startLevel(1); 
+                    startNewGame(); 
                 }
                 else {
-                    mainApp.showDifficultyScene(); 
+                    quitToMenu(); 
                 } // quit or change difficulty
 
             } else { // lose popup setup
                  alert.setTitle("Level Failed!");
-                 alert.setContentText("Your score: " + score + "\nTry again?");
+                 alert.setContentText("Your score: " + engine.getScore() + "\nTry again?");
                  // setup buttons for lose
-                 ButtonType rtyLvl = new ButtonType("Retry Level " + currentLevelNumber);
+                 ButtonType rtyLvl = new ButtonType("Retry Level " + engine.getLevelNumber());
                  ButtonType chgDiff = new ButtonType("Change Difficulty");
                  ButtonType quit = new ButtonType("Quit to Menu", ButtonBar.ButtonData.CANCEL_CLOSE);
                  alert.getButtonTypes().setAll(rtyLvl, chgDiff, quit);
                  // show and handle result
                  ButtonType res = alert.showAndWait().orElse(quit); // default quit
                  if (res == rtyLvl) {
-                    startLevel(currentLevelNumber); 
+                    engine.startLevel(engine.getLevelNumber()); 
                 } // retry same level
                  else { 
-                    mainApp.showDifficultyScene(); 
+                    quitToMenu(); 
                 } // quit or change difficulty
             }
         });
     }
 
-    // converts suit to int
-    private int convertSuitToInt(String suit) {
-        if (suit == null) {
-            return -1; 
-        }
-        return SUITS.indexOf(suit);
+    // creates the mute/unmute button
+    private Button createMuteButton(Main mainApp) {
+         Button button = new Button();
+         styleButton(button); 
+         button.setOnAction(e -> {
+             mainApp.toggleMusicMute();
+             updateMuteButtonText();
+         });
+         muteButton = button;
+         updateMuteButtonText();
+         return button;
     }
 
-    // converts rank to int
-    private int convertRankToInt(String rank) {
-        if (rank == null) {
-            return -1;
-        }
-        int index = RANKS.indexOf(rank);
-        if (index != -1) {
-            return index + 2;
-        } 
-        else {
-            return -1; 
+    // matches the mute button text to the current mute state
+    private void updateMuteButtonText() {
+        if (muteButton == null) {
+            return;
         }
-    }
-
-    // creates the mute/unmute button
-    private Button createMuteButton(Main mainApp) {
-         String buttonText;
-         if (mainApp.isMuted()) { 
-            buttonText = "Unmute"; 
+        if (mainApp.isMuted()) { 
+            muteButton.setText("Unmute"); 
         } 
         else { 
-            buttonText = "Mute"; 
+            muteButton.setText("Mute"); 
         }
-         Button muteButton = new Button(buttonText);
-         styleButton(muteButton); 
-         muteButton.setOnAction(e -> {
-             mainApp.toggleMusicMute();
-             if (mainApp.isMuted()) { 
-                muteButton.setText("Unmute"); 
-            } 
-            else { 
-                muteButton.setText("Mute"); 
-            }
-         });
-         return muteButton;
     }
 
      // applies a basic style to a button 
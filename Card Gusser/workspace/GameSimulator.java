@@ -0,0 +1,351 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+// plays huge numbers of headless games on all cores to tune scoring, hints and levels
+// usage: java workspace.GameSimulator [games=1000000] [strategy=all|random|hint-greedy|color-hint|card-counting]
+//        [difficulty=Easy|Hard] [guessSeconds=2] [seed=42] [rng=L64X128MixRandom] [threads=N | threads=1,2,4,8]
+//        [shoe=decks] [penetration=0.75] [levels=standard|endless|file] [maxLevel=1000]
+public class GameSimulator {
+
+    // games are split into this many chunks, each with its own random stream,
+    // so the results are the same whatever the thread count
+    private static final int CHUNKS = 256;
+
+    public static void main(String[] args) throws Exception {
+        long games = 1_000_000;
+        String strategyName = "all";
+        String difficulty = "Easy";
+        int guessSeconds = 2;
+        long seed = 42;
+        String algorithm = RandomStreams.DEFAULT_ALGORITHM;
+        int shoeDecks = 0; // 0 deals from a single deck reshuffled every game
+        double penetration = 1;
+        int[] threadCounts = {ForkJoinPool.commonPool().getParallelism() + 1};
+        LevelSchedule schedule = LevelSchedule.getDefault();
+        int maxLevel = 1000; // endless games stop here, or a good bot never finishes
+
+        for (String arg : args) {
+            String[] parts = arg.split("=", 2);
+            if (parts.length != 2) {
+                System.err.println("Ignoring argument: " + arg);
+                continue;
+            }
+            switch (parts[0]) {
+                case "games": games = Long.parseLong(parts[1]); break;
+                case "strategy": strategyName = parts[1]; break;
+                case "difficulty": difficulty = parts[1]; break;
+                case "guessSeconds": guessSeconds = Integer.parseInt(parts[1]); break;
+                case "seed": seed = Long.parseLong(parts[1]); break;
+                case "rng": algorithm = parts[1]; break;
+                case "shoe": shoeDecks = Integer.parseInt(parts[1]); break;
+                case "penetration": penetration = Double.parseDouble(parts[1]); break;
+                case "levels": schedule = LevelSchedule.load(parts[1]); break;
+                case "maxLevel": maxLevel = Integer.parseInt(parts[1]); break;
+                case "threads": threadCounts = Arrays.stream(parts[1].split(",")).mapToInt(Integer::parseInt).toArray(); break;
+                default: System.err.println("Unknown option: " + parts[0]);
+            }
+        }
+
+        String[] strategies;
+        if (strategyName.equals("all")) {
+            strategies = Strategy.NAMES;
+        } else {
+            strategies = new String[] {strategyName};
+        }
+
+        System.out.println("Simulating " + games + " " + difficulty + " games per strategy, "
+                + guessSeconds + "s per guess, " + algorithm + " seed " + seed);
+        if (shoeDecks > 0) {
+            System.out.println("Dealing from a " + shoeDecks + " deck shoe, penetration " + penetration);
+        }
+        System.out.println("Level schedule " + schedule + (schedule.isEndless() ? ", stopping at level " + maxLevel : ""));
+        printBestPlay(difficulty, guessSeconds, shoeDecks, schedule);
+        for (String name : strategies) {
+            double baseRate = 0;
+            for (int threads : threadCounts) {
+                long start = System.nanoTime();
+                Stats stats = simulate(games, name, difficulty, guessSeconds, shoeDecks, penetration, algorithm, seed, threads, schedule, maxLevel);
+                double seconds = (System.nanoTime() - start) / 1e9;
+                double rate = stats.games / seconds;
+                if (baseRate == 0) {
+                    baseRate = rate;
+                }
+                System.out.println();
+                System.out.printf(Locale.ROOT, "== %s (%d threads): %.0f games/s, speedup x%.2f%n", name, threads, rate, rate / baseRate);
+                stats.print();
+            }
+        }
+    }
+
+    // the exact expected score of perfect play, the ceiling the strategies can be compared with
+    private static void printBestPlay(String difficulty, int guessSeconds, int shoeDecks, LevelSchedule schedule) {
+        int decks = Math.max(1, shoeDecks);
+        int[] fullDeck = new int[difficulty.equals("Easy") ? 4 : 13];
+        Arrays.fill(fullDeck, difficulty.equals("Easy") ? 13 * decks : 4 * decks);
+        try {
+            long start = System.nanoTime();
+            ExpectedScoreSolver solver = new ExpectedScoreSolver(difficulty, guessSeconds, schedule);
+            double expected = solver.expectedScore(fullDeck, 1, 0, schedule.getStartingHints());
+            System.out.printf(Locale.ROOT, "Best possible expected score from a fresh deck: %.2f (%d guesses per card on level 1, solved %d states in %d ms)%n",
+                    expected, solver.getGuessesPerCard(1), solver.cachedStates(), (System.nanoTime() - start) / 1_000_000);
+        }
+        catch (IllegalArgumentException e) {
+            System.out.println("Best possible expected score not available: " + e.getMessage());
+        }
+    }
+
+    // runs the games on a pool of the given size and merges the per-chunk stats
+    public static Stats simulate(long games, String strategyName, String difficulty, int guessSeconds,
+            int shoeDecks, double penetration, String algorithm, long seed, int threads,
+            LevelSchedule schedule, int maxLevel) throws Exception {
+        Supplier<Strategy> strategies = strategyNamed(strategyName, guessSeconds, schedule);
+        strategies.get(); // fails here on an unknown name rather than inside a worker
+        // one bot per worker thread, reused across its chunks so the card counter's solver stays warm
+        ThreadLocal<Strategy> workerStrategy = ThreadLocal.withInitial(strategies);
+        RandomGenerator[] streams = RandomStreams.streams(algorithm, seed, CHUNKS); // independent stream per chunk
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            return pool.submit(() -> IntStream.range(0, CHUNKS).parallel()
+                    .mapToObj(chunk -> {
+                        long chunkGames = games / CHUNKS;
+                        if (chunk < games % CHUNKS) {
+                            chunkGames++;
+                        }
+                        Deck deck = shoeDecks > 0 ? new Shoe(shoeDecks, penetration, streams[chunk]) : new Deck(streams[chunk]);
+                        GameEngine engine = new GameEngine(deck, difficulty, schedule);
+                        return runChunk(chunkGames, workerStrategy.get(), engine, guessSeconds, maxLevel, streams[chunk]);
+                    })
+                    .reduce(new Stats(), Stats::merge)).get();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // plays games one after another on a single thread
+    private static Stats runChunk(long games, Strategy strategy, GameEngine engine, int guessSeconds, int maxLevel, RandomGenerator random) {
+        Stats stats = new Stats();
+        for (long i = 0; i < games; i++) {
+            playGame(engine, strategy, guessSeconds, maxLevel, random, stats);
+        }
+        return stats;
+    }
+
+    // plays one full game, every wrong guess costs guessSeconds of the timer
+    // games that clear maxLevel stop there and are counted apart from wins and losses
+    private static void playGame(GameEngine engine, Strategy strategy, int guessSeconds, int maxLevel, RandomGenerator random, Stats stats) {
+        engine.startNewGame();
+        int cardLevel = -1;
+        int cardIndex = -1;
+        boolean cardHinted = false;
+        boolean reachedLimit = false;
+
+        while (engine.isLevelInProgress()) {
+            if (engine.getLevelNumber() != cardLevel || engine.getGuessIndex() != cardIndex) {
+                cardLevel = engine.getLevelNumber();
+                cardIndex = engine.getGuessIndex();
+                cardHinted = false;
+                strategy.newCard(engine);
+            }
+
+            int move = strategy.nextMove(engine, random);
+            if (move == Strategy.USE_HINT) {
+                if (engine.useHint() == null) {
+                    move = GuessCandidates.firstValue(engine); // hint refused, guess instead
+                } else {
+                    cardHinted = true;
+                    continue;
+                }
+            }
+
+            if (engine.guess(move)) {
+                stats.cardFinished(cardHinted, true);
+                if (!engine.isLevelInProgress() && !engine.isGameWon()) {
+                    if (engine.getLevelNumber() >= maxLevel) {
+                        reachedLimit = true;
+                    } else {
+                        engine.startNextLevel();
+                    }
+                }
+            } else {
+                strategy.guessRejected(move);
+                for (int s = 0; s < guessSeconds && engine.isLevelInProgress(); s++) {
+                    engine.tick();
+                }
+                if (!engine.isLevelInProgress()) {
+                    stats.cardFinished(cardHinted, false); // timed out
+                }
+            }
+        }
+        stats.gameFinished(engine, reachedLimit);
+    }
+
+    // creates bots by name, the card counter times its hints for the simulated guess speed
+    public static Supplier<Strategy> strategyNamed(String name, int guessSeconds, LevelSchedule schedule) {
+        if (name.equals("card-counting")) {
+            return () -> new CardCountingStrategy(guessSeconds, schedule);
+        }
+        return () -> Strategy.create(name);
+    }
+
+    // counters for one chunk, merged at the end
+    public static class Stats {
+        long games;
+        long wins;
+        long scoreSum;
+        long scoreSquares;
+        long[] scoreCounts = new long[256];
+        long[] lostAtLevel = new long[16]; // grows for long schedules
+        long reachedLimit;
+        long hintsUsed;
+        long hintedCards;
+        long hintedCardsWon;
+        long plainCards;
+        long plainCardsWon;
+
+        void cardFinished(boolean hinted, boolean won) {
+            if (hinted) {
+                hintedCards++;
+                if (won) {
+                    hintedCardsWon++;
+                }
+            } else {
+                plainCards++;
+                if (won) {
+                    plainCardsWon++;
+                }
+            }
+        }
+
+        void gameFinished(GameEngine engine, boolean stoppedAtLimit) {
+            int score = engine.getScore();
+            games++;
+            scoreSum += score;
+            scoreSquares += (long) score * score;
+            if (score >= scoreCounts.length) {
+                scoreCounts = Arrays.copyOf(scoreCounts, Math.max(score + 1, scoreCounts.length * 2));
+            }
+            scoreCounts[score]++;
+            hintsUsed += engine.getSchedule().getStartingHints() - engine.getHintsRemaining();
+            if (engine.isGameWon()) {
+                wins++;
+            } else if (stoppedAtLimit) {
+                reachedLimit++;
+            } else {
+                int level = engine.getLevelNumber();
+                if (level >= lostAtLevel.length) {
+                    lostAtLevel = Arrays.copyOf(lostAtLevel, Math.max(level + 1, lostAtLevel.length * 2));
+                }
+                lostAtLevel[level]++;
+            }
+        }
+
+        Stats merge(Stats other) {
+            Stats merged = new Stats();
+            merged.games = games + other.games;
+            merged.wins = wins + other.wins;
+            merged.scoreSum = scoreSum + other.scoreSum;
+            merged.scoreSquares = scoreSquares + other.scoreSquares;
+            merged.scoreCounts = new long[Math.max(scoreCounts.length, other.scoreCounts.length)];
+            for (int i = 0; i < merged.scoreCounts.length; i++) {
+                if (i < scoreCounts.length) {
+                    merged.scoreCounts[i] += scoreCounts[i];
+                }
+                if (i < other.scoreCounts.length) {
+                    merged.scoreCounts[i] += other.scoreCounts[i];
+                }
+            }
+            merged.lostAtLevel = new long[Math.max(lostAtLevel.length, other.lostAtLevel.length)];
+            for (int i = 0; i < merged.lostAtLevel.length; i++) {
+                if (i < lostAtLevel.length) {
+                    merged.lostAtLevel[i] += lostAtLevel[i];
+                }
+                if (i < other.lostAtLevel.length) {
+                    merged.lostAtLevel[i] += other.lostAtLevel[i];
+                }
+            }
+            merged.reachedLimit = reachedLimit + other.reachedLimit;
+            merged.hintsUsed = hintsUsed + other.hintsUsed;
+            merged.hintedCards = hintedCards + other.hintedCards;
+            merged.hintedCardsWon = hintedCardsWon + other.hintedCardsWon;
+            merged.plainCards = plainCards + other.plainCards;
+            merged.plainCardsWon = plainCardsWon + other.plainCardsWon;
+            return merged;
+        }
+
+        // score at the given fraction of games (0.5 = median)
+        int percentile(double fraction) {
+            long target = (long) Math.ceil(fraction * games);
+            long seen = 0;
+            for (int score = 0; score < scoreCounts.length; score++) {
+                seen += scoreCounts[score];
+                if (seen >= Math.max(1, target)) {
+                    return score;
+                }
+            }
+            return scoreCounts.length - 1;
+        }
+
+        void print() {
+            if (games == 0) {
+                System.out.println("No games played");
+                return;
+            }
+            double mean = (double) scoreSum / games;
+            double stdDev = Math.sqrt(Math.max(0, (double) scoreSquares / games - mean * mean));
+            System.out.printf(Locale.ROOT, "Win rate: %.2f%%   mean score: %.2f   std dev: %.2f%n", 100.0 * wins / games, mean, stdDev);
+            System.out.printf(Locale.ROOT, "Score percentiles: min %d | p10 %d | p50 %d | p90 %d | max %d%n",
+                    percentile(0), percentile(0.1), percentile(0.5), percentile(0.9), percentile(1));
+            System.out.printf(Locale.ROOT, "Hints per game: %.2f   card win rate with hint: %s   without: %s%n",
+                    (double) hintsUsed / games, rate(hintedCardsWon, hintedCards), rate(plainCardsWon, plainCards));
+
+            StringBuilder losses = new StringBuilder("Games lost at level:");
+            for (int level = 1; level < lostAtLevel.length; level++) {
+                if (lostAtLevel[level] > 0) {
+                    losses.append(String.format(Locale.ROOT, " %d: %.2f%%", level, 100.0 * lostAtLevel[level] / games));
+                }
+            }
+            System.out.println(losses);
+            if (reachedLimit > 0) {
+                System.out.printf(Locale.ROOT, "Reached the level limit: %.2f%%%n", 100.0 * reachedLimit / games);
+            }
+
+            // histogram in buckets of 10 points
+            long[] buckets = new long[scoreCounts.length / 10 + 1];
+            long largest = 1;
+            for (int score = 0; score < scoreCounts.length; score++) {
+                buckets[score / 10] += scoreCounts[score];
+                largest = Math.max(largest, buckets[score / 10]);
+            }
+            int lastBucket = percentile(1) / 10;
+            for (int b = 0; b <= lastBucket; b++) {
+                int bar = (int) (40 * buckets[b] / largest);
+                System.out.printf(Locale.ROOT, "%4d-%-4d %7.3f%% %s%n", b * 10, b * 10 + 9, 100.0 * buckets[b] / games, "#".repeat(bar));
+            }
+        }
+
+        private static String rate(long won, long total) {
+            if (total == 0) {
+                return "n/a";
+            }
+            return String.format(Locale.ROOT, "%.2f%%", 100.0 * won / total);
+        }
+    }
+}
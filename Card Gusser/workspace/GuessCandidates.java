@@ -0,0 +1,112 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+import java.util.random.RandomGenerator;
+
+// tracks which suits or ranks are still possible for the current card
+public class GuessCandidates {
+
+    // indexed by suit (0-3) or rank (2-14)
+    private final boolean[] rejected = new boolean[15];
+
+    // forgets everything about the previous card
+    public void reset() {
+        for (int i = 0; i < rejected.length; i++) {
+            rejected[i] = false;
+        }
+    }
+
+    // rules out a value that was guessed wrong
+    public void reject(int value) {
+        if (value >= 0 && value < rejected.length) {
+            rejected[value] = true;
+        }
+    }
+
+    // smallest value that can be guessed: suit 0 or rank 2
+    public static int firstValue(VisibleGameState state) {
+        if (state.isEasyMode()) {
+            return 0;
+        }
+        return 2;
+    }
+
+    // largest value that can be guessed: suit 3 or rank 14
+    public static int lastValue(VisibleGameState state) {
+        if (state.isEasyMode()) {
+            return 3;
+        }
+        return 14;
+    }
+
+    // true if the value has not been ruled out by a wrong guess or the hint
+    public boolean isPossible(VisibleGameState state, int value) {
+        if (rejected[value]) {
+            return false;
+        }
+        int hint = state.getHintCategory();
+        if (hint == GameEngine.HINT_NONE) {
+            return true;
+        }
+        if (state.isEasyMode()) {
+            return GameEngine.hintCategoryOfSuit(value) == hint;
+        }
+        return GameEngine.hintCategoryOfRank(value) == hint;
+    }
+
+    // how many values are still possible
+    public int count(VisibleGameState state) {
+        int count = 0;
+        for (int value = firstValue(state); value <= lastValue(state); value++) {
+            if (isPossible(state, value)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // true if the values still possible fall in more than one hint category, so a hint would narrow them
+    public boolean spansHintCategories(VisibleGameState state) {
+        int firstCategory = GameEngine.HINT_NONE;
+        for (int value = firstValue(state); value <= lastValue(state); value++) {
+            if (!isPossible(state, value)) {
+                continue;
+            }
+            int category = state.isEasyMode() ? GameEngine.hintCategoryOfSuit(value) : GameEngine.hintCategoryOfRank(value);
+            if (firstCategory == GameEngine.HINT_NONE) {
+                firstCategory = category;
+            } else if (category != firstCategory) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // picks one of the possible values uniformly at random
+    public int pickRandom(VisibleGameState state, RandomGenerator random) {
+        int count = count(state);
+        if (count == 0) {
+            return firstValue(state); // nothing left, the card must be invalid
+        }
+        int skip = random.nextInt(count);
+        for (int value = firstValue(state); value <= lastValue(state); value++) {
+            if (isPossible(state, value)) {
+                if (skip == 0) {
+                    return value;
+                }
+                skip--;
+            }
+        }
+        return firstValue(state);
+    }
+}
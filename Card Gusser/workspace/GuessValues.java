@@ -0,0 +1,43 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+import java.util.List;
+
+// names shown in the guess dropdowns and the suit (0-3) or rank (2-14) values they stand for
+public class GuessValues {
+
+    public static final List<String> SUITS = List.of("Hearts", "Diamonds", "Clubs", "Spades");
+    public static final List<String> RANKS = List.of("2", "3", "4", "5", "6", "7", "8", "9", "10", "Jack", "Queen", "King", "Ace");
+
+    // converts suit to int
+    public static int suitValueOf(String suit) {
+        if (suit == null) {
+            return -1;
+        }
+        return SUITS.indexOf(suit);
+    }
+
+    // converts rank to int
+    public static int rankValueOf(String rank) {
+        if (rank == null) {
+            return -1;
+        }
+        int index = RANKS.indexOf(rank);
+        if (index != -1) {
+            return index + 2;
+        }
+        else {
+            return -1;
+        }
+    }
+}
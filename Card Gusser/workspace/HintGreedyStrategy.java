@@ -0,0 +1,38 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+import java.util.random.RandomGenerator;
+
+// spends a hint on every card while any are left, then guesses at random within the hint
+public class HintGreedyStrategy implements Strategy {
+
+    private final GuessCandidates candidates = new GuessCandidates();
+
+    @Override
+    public void newCard(VisibleGameState state) {
+        candidates.reset();
+    }
+
+    @Override
+    public int nextMove(VisibleGameState state, RandomGenerator random) {
+        if (state.getHintsRemaining() > 0 && state.isHintAllowed() && state.getHintCategory() == GameEngine.HINT_NONE) {
+            return USE_HINT;
+        }
+        return candidates.pickRandom(state, random);
+    }
+
+    @Override
+    public void guessRejected(int guessedValue) {
+        candidates.reject(guessedValue);
+    }
+}
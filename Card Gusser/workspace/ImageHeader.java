@@ -0,0 +1,91 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public class ImageHeader {
+
+    // reads the pixel size of a png or jpeg from its header without decoding it
+    // returns {width, height}, or null if the format is not recognised
+    public static int[] readSize(InputStream in) throws IOException {
+        int first = in.read();
+        int second = in.read();
+        if (first == 0x89 && second == 'P') {
+            return readPngSize(in);
+        }
+        if (first == 0xFF && second == 0xD8) {
+            return readJpegSize(in);
+        }
+        return null;
+    }
+
+    // png: 8 byte signature, then the IHDR chunk with width and height
+    private static int[] readPngSize(InputStream in) throws IOException {
+        skipFully(in, 14); // rest of the signature, chunk length and "IHDR"
+        int width = readInt(in);
+        int height = readInt(in);
+        return new int[] {width, height};
+    }
+
+    // jpeg: walk the markers until a start-of-frame segment
+    private static int[] readJpegSize(InputStream in) throws IOException {
+        while (true) {
+            int marker = in.read();
+            while (marker == 0xFF) {
+                marker = in.read(); // skip fill bytes
+            }
+            if (marker < 0) {
+                return null;
+            }
+            int length = readShort(in);
+            boolean startOfFrame = marker >= 0xC0 && marker <= 0xCF && marker != 0xC4 && marker != 0xC8 && marker != 0xCC;
+            if (startOfFrame) {
+                in.read(); // sample precision
+                int height = readShort(in);
+                int width = readShort(in);
+                return new int[] {width, height};
+            }
+            skipFully(in, length - 2);
+            if (in.read() != 0xFF) {
+                return null; // not at a marker any more
+            }
+        }
+    }
+
+    private static int readInt(InputStream in) throws IOException {
+        return (readShort(in) << 16) | readShort(in);
+    }
+
+    private static int readShort(InputStream in) throws IOException {
+        int high = in.read();
+        int low = in.read();
+        if ((high | low) < 0) {
+            throw new IOException("Unexpected end of image header");
+        }
+        return (high << 8) | low;
+    }
+
+    private static void skipFully(InputStream in, long count) throws IOException {
+        while (count > 0) {
+            long skipped = in.skip(count);
+            if (skipped <= 0) {
+                if (in.read() < 0) {
+                    throw new IOException("Unexpected end of image header");
+                }
+                skipped = 1;
+            }
+            count -= skipped;
+        }
+    }
+}
@@ -11,27 +11,49 @@
 */
 package workspace;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
 import java.util.List;
 
 public class Level {
 
-    private final int levelNumber;
-    private final int cardsToGuessCount;
+    private int levelNumber;
+    private int cardsToGuessCount;
     private final Deck deck;
-    private final List<Card> cardsToGuess;
+    private final LevelSchedule schedule;
+    // cards dealt for the level, only the first dealtCount entries are used
+    private Card[] cardsToGuess = new Card[2];
+    private int dealtCount;
+    // read-only view over the dealt cards, made once so reading them never allocates
+    private final List<Card> cardsView = new AbstractList<Card>() {
+        @Override
+        public Card get(int index) {
+            return cardAt(index);
+        }
+
+        @Override
+        public int size() {
+            return dealtCount;
+        }
+    };
 
-    // creates a level
+    // creates a level using the default level schedule
     public Level(Deck deck, int levelNumber) {
+        this(deck, LevelSchedule.getDefault(), levelNumber);
+    }
+
+    // creates a level, the schedule says how many cards it deals
+    public Level(Deck deck, LevelSchedule schedule, int levelNumber) {
         this.deck = deck;
-        this.levelNumber = levelNumber;
-        this.cardsToGuess = new ArrayList<>();
+        this.schedule = schedule;
+        reset(levelNumber);
+    }
 
-        if (levelNumber == 10) {
-            this.cardsToGuessCount = 2; // Level 10 has two cards
-        } 
-        else {
-            this.cardsToGuessCount = 1; // Other levels have one card
+    // reuses this object for another level, drawing its cards from the deck
+    public void reset(int levelNumber) {
+        this.levelNumber = levelNumber;
+        this.cardsToGuessCount = schedule.cardsIn(levelNumber);
+        if (cardsToGuess.length < cardsToGuessCount) {
+            cardsToGuess = new Card[cardsToGuessCount];
         }
 
         prepareGuessingCards(); // draw the cards for the level
@@ -39,11 +61,11 @@ public class Level {
 
     // draws the cards needed for this level from the deck
     private void prepareGuessingCards() {
-        this.cardsToGuess.clear(); 
+        dealtCount = 0;
         for (int i = 0; i < cardsToGuessCount; i++) { 
             Card dealtCard = deck.drawCard(); 
             if (dealtCard != null) {
-                this.cardsToGuess.add(dealtCard); // add it to this levels list
+                cardsToGuess[dealtCount++] = dealtCard; // add it to this levels cards
             } 
             else {
                 System.err.println("Error: Could not draw card " + (i+1) + " for level " + levelNumber + "!");
@@ -52,8 +74,22 @@ public class Level {
         }
     }
 
+    // the card at an index (0 to cardCount() - 1)
+    public Card cardAt(int index) {
+        if (index < 0 || index >= dealtCount) {
+            throw new IndexOutOfBoundsException("Card " + index + " of " + dealtCount);
+        }
+        return cardsToGuess[index];
+    }
+
+    // how many cards were actually dealt for this level
+    public int cardCount() {
+        return dealtCount;
+    }
+
+    // read-only view of the dealt cards, not a copy
     public List<Card> getCardsToGuess() {
-        return new ArrayList<>(this.cardsToGuess);
+        return cardsView;
     }
     public int getInitialCardsToGuessCount() {
         return this.cardsToGuessCount;
@@ -0,0 +1,316 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+// the rules of every level: cards dealt, timer, score and whether hints are allowed
+// read from a small text file once and compiled into arrays, so the engine looks rules up by level
+// instead of branching on level numbers. see levels/standard.levels for the format
+public class LevelSchedule {
+
+    // last level of a schedule that never ends
+    public static final int ENDLESS = Integer.MAX_VALUE;
+
+    public static final String STANDARD = "standard";
+    private static final String RESOURCE_FOLDER = "/workspace/levels/";
+    private static final String EXTENSION = ".levels";
+
+    private static LevelSchedule defaultSchedule;
+
+    private final String name;
+    private final int lastLevel;
+    private final int startingHints;
+    private final int maxCardsPerLevel;
+    // indexed by level, entry 0 is unused and levels past the end use the last entry
+    private final int[] cards;
+    private final int[] seconds;
+    private final int[] points;
+    private final int[] pointsPerLevel;
+    private final int[] hintPoints;
+    private final boolean[] hintsAllowed;
+
+    private LevelSchedule(String name, int lastLevel, int startingHints, int[] cards, int[] seconds,
+                          int[] points, int[] pointsPerLevel, int[] hintPoints, boolean[] hintsAllowed) {
+        this.name = name;
+        this.lastLevel = lastLevel;
+        this.startingHints = startingHints;
+        this.cards = cards;
+        this.seconds = seconds;
+        this.points = points;
+        this.pointsPerLevel = pointsPerLevel;
+        this.hintPoints = hintPoints;
+        this.hintsAllowed = hintsAllowed;
+        int most = 0;
+        for (int count : cards) {
+            most = Math.max(most, count);
+        }
+        this.maxCardsPerLevel = most;
+    }
+
+    // the schedule picked with -Dcardguesser.levels (a name like "endless" or a file path),
+    // falling back to the standard game if it cannot be read
+    public static synchronized LevelSchedule getDefault() {
+        if (defaultSchedule == null) {
+            String configured = System.getProperty("cardguesser.levels", STANDARD);
+            try {
+                defaultSchedule = load(configured);
+            }
+            catch (IOException | IllegalArgumentException e) {
+                System.err.println("Error loading level schedule " + configured + ": " + e.getMessage());
+                defaultSchedule = standard();
+            }
+        }
+        return defaultSchedule;
+    }
+
+    // the original ten level game
+    public static LevelSchedule standard() {
+        try {
+            return load(STANDARD);
+        }
+        catch (IOException e) {
+            throw new IllegalStateException("Standard level schedule is missing", e);
+        }
+    }
+
+    // loads a bundled schedule by name, or a schedule file from disk
+    public static LevelSchedule load(String nameOrPath) throws IOException {
+        InputStream bundled = LevelSchedule.class.getResourceAsStream(RESOURCE_FOLDER + nameOrPath + EXTENSION);
+        if (bundled != null) {
+            try (Reader reader = new InputStreamReader(bundled, StandardCharsets.UTF_8)) {
+                return parse(nameOrPath, reader);
+            }
+        }
+        Path file = Path.of(nameOrPath);
+        if (!Files.isRegularFile(file)) {
+            throw new IOException("No bundled schedule or file named " + nameOrPath);
+        }
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return parse(file.getFileName().toString(), reader);
+        }
+    }
+
+    // reads the schedule format: "levels N" or "levels endless", "hints N", then one row per level range
+    // rows are "from-to", "level" or "from+" followed by cards, seconds, points, perLevel, hintPoints and yes/no
+    public static LevelSchedule parse(String name, Reader source) throws IOException {
+        BufferedReader reader = new BufferedReader(source);
+        int lastLevel = 0;
+        int startingHints = 0;
+        List<int[]> rows = new ArrayList<>(); // {from, to, cards, seconds, points, perLevel, hintPoints, hintsAllowed}
+        boolean openEnded = false;
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            int comment = line.indexOf('#');
+            if (comment >= 0) {
+                line = line.substring(0, comment);
+            }
+            line = line.trim();
+            if (line.isEmpty()) {
+                continue;
+            }
+            String[] fields = line.split("\\s+");
+            try {
+                if (fields[0].equals("levels")) {
+                    expectFields(fields, 2);
+                    lastLevel = fields[1].equals("endless") ? ENDLESS : positive(fields[1]);
+                } else if (fields[0].equals("hints")) {
+                    expectFields(fields, 2);
+                    startingHints = nonNegative(fields[1]);
+                } else {
+                    if (openEnded) {
+                        throw new IllegalArgumentException("no rows may follow an open-ended row");
+                    }
+                    expectFields(fields, 7);
+                    int[] row = new int[8];
+                    String range = fields[0];
+                    if (range.endsWith("+")) {
+                        row[0] = positive(range.substring(0, range.length() - 1));
+                        row[1] = row[0];
+                        openEnded = true;
+                    } else if (range.contains("-")) {
+                        row[0] = positive(range.substring(0, range.indexOf('-')));
+                        row[1] = positive(range.substring(range.indexOf('-') + 1));
+                    } else {
+                        row[0] = positive(range);
+                        row[1] = row[0];
+                    }
+                    int expectedFrom = rows.isEmpty() ? 1 : rows.get(rows.size() - 1)[1] + 1;
+                    if (row[0] != expectedFrom || row[1] < row[0]) {
+                        throw new IllegalArgumentException("expected a range starting at level " + expectedFrom);
+                    }
+                    row[2] = positive(fields[1]);
+                    row[3] = positive(fields[2]);
+                    row[4] = Integer.parseInt(fields[3]);
+                    row[5] = Integer.parseInt(fields[4]);
+                    row[6] = Integer.parseInt(fields[5]);
+                    row[7] = yesOrNo(fields[6]) ? 1 : 0;
+                    rows.add(row);
+                }
+            }
+            catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(name + " line " + lineNumber + ": " + e.getMessage());
+            }
+        }
+
+        if (rows.isEmpty()) {
+            throw new IllegalArgumentException(name + " has no level rows");
+        }
+        if (lastLevel == 0) {
+            throw new IllegalArgumentException(name + " does not say how many levels it has");
+        }
+        int tableEnd = rows.get(rows.size() - 1)[1];
+        if (lastLevel != ENDLESS && tableEnd < lastLevel && !openEnded) {
+            throw new IllegalArgumentException(name + " has " + lastLevel + " levels but rules only up to level " + tableEnd);
+        }
+        if (lastLevel != ENDLESS) {
+            tableEnd = Math.min(tableEnd, lastLevel);
+        }
+
+        // compile the rows into one entry per level
+        int[] cards = new int[tableEnd + 1];
+        int[] seconds = new int[tableEnd + 1];
+        int[] points = new int[tableEnd + 1];
+        int[] pointsPerLevel = new int[tableEnd + 1];
+        int[] hintPoints = new int[tableEnd + 1];
+        boolean[] hintsAllowed = new boolean[tableEnd + 1];
+        for (int[] row : rows) {
+            for (int level = row[0]; level <= Math.min(row[1], tableEnd); level++) {
+                cards[level] = row[2];
+                seconds[level] = row[3];
+                points[level] = row[4];
+                pointsPerLevel[level] = row[5];
+                hintPoints[level] = row[6];
+                hintsAllowed[level] = row[7] == 1;
+            }
+        }
+        if (lastLevel != ENDLESS) {
+            // every level's score must fit an int, levels past the table score with its last entry
+            for (int level = 1; level <= tableEnd; level++) {
+                checkPointsFit(name, level, points[level], pointsPerLevel[level]);
+            }
+            checkPointsFit(name, lastLevel, points[tableEnd], pointsPerLevel[tableEnd]); // past the table
+        }
+        return new LevelSchedule(name, lastLevel, startingHints, cards, seconds, points, pointsPerLevel, hintPoints, hintsAllowed);
+    }
+
+    private static void checkPointsFit(String name, int level, int points, int perLevel) {
+        long total = points + (long) perLevel * level;
+        if (total != (int) total) {
+            throw new IllegalArgumentException(name + " scores " + total + " points on level " + level + ", outside what a score can hold");
+        }
+    }
+
+    private static void expectFields(String[] fields, int count) {
+        if (fields.length != count) {
+            throw new IllegalArgumentException("expected " + count + " fields but found " + fields.length);
+        }
+    }
+
+    private static int positive(String text) {
+        int value = Integer.parseInt(text);
+        if (value <= 0) {
+            throw new IllegalArgumentException(text + " must be at least 1");
+        }
+        return value;
+    }
+
+    private static int nonNegative(String text) {
+        int value = Integer.parseInt(text);
+        if (value < 0) {
+            throw new IllegalArgumentException(text + " must not be negative");
+        }
+        return value;
+    }
+
+    // only the exact lowercase words, so a typo never quietly turns hints off
+    private static boolean yesOrNo(String text) {
+        if (text.equals("yes")) {
+            return true;
+        }
+        if (text.equals("no")) {
+            return false;
+        }
+        throw new IllegalArgumentException("expected yes or no but found " + text);
+    }
+
+    // table index of a level, levels past the table share its last entry
+    private int entry(int level) {
+        return Math.min(level, cards.length - 1);
+    }
+
+    public int cardsIn(int level) {
+        return cards[entry(level)];
+    }
+
+    public int secondsFor(int level) {
+        return seconds[entry(level)];
+    }
+
+    // score for finishing a level, hinted is true when a hint was used on its last card
+    // finite schedules are checked to fit an int when parsed, endless ones stop growing at the int limits
+    public int pointsFor(int level, boolean hinted) {
+        int index = entry(level);
+        if (hinted) {
+            return hintPoints[index];
+        }
+        long total = points[index] + (long) pointsPerLevel[index] * level;
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, total));
+    }
+
+    public boolean isHintAllowed(int level) {
+        return hintsAllowed[entry(level)];
+    }
+
+    public boolean isFinalLevel(int level) {
+        return level >= lastLevel;
+    }
+
+    public boolean isEndless() {
+        return lastLevel == ENDLESS;
+    }
+
+    // the last level, ENDLESS if the schedule never ends
+    public int getLastLevel() {
+        return lastLevel;
+    }
+
+    public int getStartingHints() {
+        return startingHints;
+    }
+
+    // the most cards any level deals
+    public int getMaxCardsPerLevel() {
+        return maxCardsPerLevel;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + (isEndless() ? "endless" : lastLevel + " levels") + ")";
+    }
+}
@@ -11,32 +11,46 @@
 */
 package workspace;
 
+import javafx.animation.AnimationTimer;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
-import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
+import javafx.stage.Screen;
 import javafx.stage.Stage;
 
-import java.io.InputStream; 
-
 
 public class Main extends Application {
 
     private MediaPlayer backgroundMusicPlayer; 
-    private boolean isMuted = false;          
+    // -Dcardguesser.muted=true starts muted, so the music is never loaded unless unmuted
+    private boolean isMuted = Boolean.getBoolean("cardguesser.muted");
+    // -Dcardguesser.lowMemory=true releases the music player whenever the music is muted
+    private static final boolean LOW_MEMORY = Boolean.getBoolean("cardguesser.lowMemory");
     private String difficulty = "Easy";      
     private int currentLevel = 1;         
 
     private Stage primaryStage;      
-    private Scene rulesScene;           
-    private Scene difficultyScene;          
-    private Scene gameScene;                 
+    private Parent rulesContent;           
+    private Parent difficultyContent;          
+    private Parent gameContent;                 
+    private GameScene gameManager;          // built once, then reset for every new game
+
+    // one scene for the whole app, screens swap the content on top of a shared background
+    private StackPane rootStack;
+    private ImageView backgroundView;
 
-    private final Deck gameDeck = new Deck();
+    private final Deck gameDeck = Shoe.fromSystemProperties();
+
+    private static final Metrics.Histogram SCENE_BUILD_TIME = Metrics.histogram("scene.build");
+    private static final Metrics.Histogram FIRST_FRAME_TIME = Metrics.histogram("startup.firstFrame");
+    private static final Metrics.Counter MUSIC_TOGGLES = Metrics.counter("music.toggled");
+    private static final Metrics.Counter MUSIC_RELEASES = Metrics.counter("music.released");
 
     private static final double SCENE_WIDTH = 800;
     private static final double SCENE_HEIGHT = 600;
@@ -46,64 +60,114 @@ public class Main extends Application {
         this.primaryStage = primaryStage;
         primaryStage.setTitle("Card Master"); 
 
-        setupBackgroundMusic();
-        SoundManager.loadSounds();
+        // decode images at the size they are shown at, not at source resolution
+        double outputScale = Screen.getPrimary().getOutputScaleX();
+        CardImageCache.setTier(CardImageCache.Tier.pick(GameScene.CARD_WIDTH, GameScene.CARD_HEIGHT, outputScale));
+        AssetLoader.setBackgroundSize(SCENE_WIDTH * outputScale, SCENE_HEIGHT * outputScale);
+
+        // images, sounds and music are decoded on worker threads while the first scene shows
+        AssetLoader.start();
+        setupRootScene();
 
         showRulesScene();
 
         primaryStage.show();
+        reportFirstFrame();
+    }
+
+    // records how long it took from start() until the first frame was rendered, then starts the music
+    private void reportFirstFrame() {
+        new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                stop(); // only the first pulse matters
+                FIRST_FRAME_TIME.record(AssetLoader.nanosSinceStart());
+                if (!isMuted) {
+                    setupBackgroundMusic(); // nothing about the music is loaded before this point
+                }
+            }
+        }.start();
     }
 
     public void showRulesScene() {
-        if (rulesScene == null) {
+        if (rulesContent == null) {
+            long buildStart = Metrics.now();
             Rules rulesScreen = new Rules(); // get the rules ui content
-            // wrap the content with background and create the scene
-            rulesScene = wrapWithBackground(rulesScreen.createRulesContent(this));
+            rulesContent = rulesScreen.createRulesContent(this);
+            SCENE_BUILD_TIME.recordSince(buildStart);
         }
-        primaryStage.setScene(rulesScene); // set the current scene to rules
+        showWithBackground(rulesContent); // set the current screen to rules
     }
 
     // shows the difficulty selection screen
     public void showDifficultyScene() {
-         if (difficultyScene == null) {
+         if (difficultyContent == null) {
+            long buildStart = Metrics.now();
             Rules rulesScreen = new Rules(); // reuse Rules class for its difficulty part
-            // wrap content with background and create scene
-            difficultyScene = wrapWithBackground(rulesScreen.createDifficultySelectionContent(this));
+            difficultyContent = rulesScreen.createDifficultySelectionContent(this);
+            SCENE_BUILD_TIME.recordSince(buildStart);
         }
-        primaryStage.setScene(difficultyScene); // set the current scene
+        showWithBackground(difficultyContent); // set the current screen
     }
 
     // shows the main game screen
     public void showGameScene() {
-        // always create a new game scene instance when starting a new game
-        GameScene gameManager = new GameScene(this);
-        gameScene = wrapWithBackground(gameManager.createGameContent());
-        primaryStage.setScene(gameScene); 
+        if (gameManager == null) {
+            // the game screen is only built the first time
+            long buildStart = Metrics.now();
+            gameManager = new GameScene(this);
+            gameContent = gameManager.createGameContent();
+            SCENE_BUILD_TIME.recordSince(buildStart);
+        } else {
+            // later games reuse the same controls and just reset the state
+            gameManager.startNewGame();
+        }
+        showWithBackground(gameContent); 
     }
 
-    // loads and prepares the background music
+    // loads the background music player in the background and plays it once ready
     private void setupBackgroundMusic() {
-        try {
-             String musicResourceUri = Main.class.getResource("/workspace/music/launch-bg-music.mp3").toExternalForm();
-             Media media = new Media(musicResourceUri);
-             backgroundMusicPlayer = new MediaPlayer(media);
-             backgroundMusicPlayer.setCycleCount(MediaPlayer.INDEFINITE); // make it loop forever
-             if (!isMuted) {
-                 backgroundMusicPlayer.play();
-             }
-        } catch (Exception e) { 
-            System.err.println("Error loading background music: " + e.getMessage());
-            backgroundMusicPlayer = null; 
+        AssetLoader.backgroundMusic().thenAccept(player -> Platform.runLater(() -> {
+            if (player == null || player == backgroundMusicPlayer) {
+                return; // error already reported by the loader, or already playing
+            }
+            backgroundMusicPlayer = player;
+            backgroundMusicPlayer.setMute(isMuted); // may have been muted while it loaded
+            if (!isMuted) {
+                backgroundMusicPlayer.play();
+            } else if (LOW_MEMORY) {
+                releaseBackgroundMusic();
+            }
+        }));
+    }
+
+    // stops the music and lets its player and decoder memory go, it is loaded again when unmuted
+    private void releaseBackgroundMusic() {
+        if (backgroundMusicPlayer != null) {
+            backgroundMusicPlayer.stop();
+            backgroundMusicPlayer.dispose();
+            backgroundMusicPlayer = null;
         }
+        AssetLoader.releaseBackgroundMusic();
+        MUSIC_RELEASES.increment();
     }
 
     // toggles the music mute state
     public void toggleMusicMute() {
+        isMuted = !isMuted; // flip the mute state, applied when the player is created if still loading
         if (backgroundMusicPlayer != null) {
-            isMuted = !isMuted; // flip the mute state
-            backgroundMusicPlayer.setMute(isMuted); // apply to player
-            System.out.println("Music Muted: " + isMuted);
+            if (isMuted && LOW_MEMORY) {
+                releaseBackgroundMusic();
+            } else {
+                backgroundMusicPlayer.setMute(isMuted); // apply to player
+                if (!isMuted && backgroundMusicPlayer.getStatus() != MediaPlayer.Status.PLAYING) {
+                    backgroundMusicPlayer.play();
+                }
+            }
+        } else if (!isMuted) {
+            setupBackgroundMusic(); // started muted or released, load it now
         }
+        MUSIC_TOGGLES.increment();
     }
 
     // allows other classes to check if music is muted
@@ -114,7 +178,6 @@ public class Main extends Application {
     // sets the chosen difficulty
     public void setDifficulty(String difficulty) {
         this.difficulty = difficulty;
-        System.out.println("Difficulty set to: " + difficulty);
     }
 
     // gets the current difficulty
@@ -125,7 +188,6 @@ public class Main extends Application {
     // sets the current level 
     public void setLevel(int level) {
         this.currentLevel = level;
-         System.out.println("Level set to: " + level);
     }
 
     // gets the current level
@@ -138,34 +200,54 @@ public class Main extends Application {
         return gameDeck;
     }
 
-    // helper to wrap ui content with a background image and create a scene
-    public Scene wrapWithBackground(Parent content) {
-        StackPane stack = new StackPane(); // use stackpane to layer background and content
-
-        try {
-             InputStream bgStream = getClass().getResourceAsStream("/workspace/background/background.jpg");
-             if (bgStream == null) {
-                 System.err.println("Background image resource not found!");
-                 stack.getChildren().add(content);
-             } else {
-                 Image backgroundImage = new Image(bgStream);
-                 ImageView backgroundView = new ImageView(backgroundImage);
-
-                 backgroundView.setFitWidth(SCENE_WIDTH);
-                 backgroundView.setFitHeight(SCENE_HEIGHT);
-                 backgroundView.setPreserveRatio(false);
-
-                 // add background first, then content on top
-                 stack.getChildren().addAll(backgroundView, content);
-             }
-        } catch (Exception e) {
-            System.err.println("Error loading background image: " + e.getMessage());
-            if (!stack.getChildren().contains(content)) {
-                stack.getChildren().add(content);
+    // creates the single scene and the background layer every screen is shown on
+    private void setupRootScene() {
+        rootStack = new StackPane(); // use stackpane to layer background and content
+
+        backgroundView = new ImageView();
+        backgroundView.setFitWidth(SCENE_WIDTH);
+        backgroundView.setFitHeight(SCENE_HEIGHT);
+        backgroundView.setPreserveRatio(false);
+        rootStack.getChildren().add(backgroundView);
+
+        // the background is decoded once by the loader and fills in whenever it is ready
+        AssetLoader.backgroundImage().thenAccept(backgroundImage -> {
+            if (backgroundImage == null) {
+                return; // error already reported by the loader
             }
-        }
+            if (Platform.isFxApplicationThread()) {
+                backgroundView.setImage(backgroundImage);
+            } else {
+                Platform.runLater(() -> backgroundView.setImage(backgroundImage));
+            }
+        });
+
+        Scene scene = new Scene(rootStack, SCENE_WIDTH, SCENE_HEIGHT);
+        // F12 prints the metrics on any screen
+        scene.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.F12) {
+                Metrics.dump();
+            }
+        });
+        primaryStage.setScene(scene);
+    }
 
-        return new Scene(stack, SCENE_WIDTH, SCENE_HEIGHT);
+    // helper to show ui content on top of the shared background, no loading or decoding involved
+    public void showWithBackground(Parent content) {
+        // background first, then content on top
+        rootStack.getChildren().setAll(backgroundView, content);
+    }
+
+    // releases the sound players when the window closes, and prints the metrics if they are on
+    @Override
+    public void stop() {
+        SoundManager.dispose();
+        if (backgroundMusicPlayer != null) {
+            backgroundMusicPlayer.dispose();
+        }
+        if (Metrics.ENABLED) {
+            Metrics.dump();
+        }
     }
 
     public Stage getPrimaryStage() {
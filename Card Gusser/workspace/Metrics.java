@@ -0,0 +1,183 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+import java.io.PrintStream;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// counters and latency histograms for the game's hot paths, printed with dump()
+// turned on at launch with -Dcardguesser.metrics=true. when off, ENABLED is a constant false,
+// so every record call is an empty method the jit removes and instrumented code costs nothing.
+// instrumented classes look their metrics up once into static fields, recording never touches the registry
+public class Metrics {
+
+    public static final boolean ENABLED = Boolean.getBoolean("cardguesser.metrics");
+
+    private static final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private static final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private static final long startNanos = System.nanoTime();
+
+    // the counter with this name, made on first use
+    public static Counter counter(String name) {
+        return counters.computeIfAbsent(name, key -> new Counter());
+    }
+
+    // the nanosecond histogram with this name, made on first use
+    public static Histogram histogram(String name) {
+        return histograms.computeIfAbsent(name, key -> new Histogram());
+    }
+
+    // start time for Histogram.recordSince, 0 when metrics are off so not even the clock is read
+    public static long now() {
+        if (!ENABLED) {
+            return 0;
+        }
+        return System.nanoTime();
+    }
+
+    public static void dump() {
+        dump(System.out);
+    }
+
+    // prints every counter and histogram, safe to call while they are being updated
+    public static void dump(PrintStream out) {
+        if (!ENABLED) {
+            out.println("Metrics are off, start with -Dcardguesser.metrics=true");
+            return;
+        }
+        out.println("== Metrics after " + (System.nanoTime() - startNanos) / 1_000_000 + " ms");
+        for (Map.Entry<String, Counter> entry : new TreeMap<>(counters).entrySet()) {
+            out.printf(Locale.ROOT, "%-24s %d%n", entry.getKey(), entry.getValue().get());
+        }
+        for (Map.Entry<String, Histogram> entry : new TreeMap<>(histograms).entrySet()) {
+            Histogram histogram = entry.getValue();
+            long count = histogram.getCount();
+            if (count == 0) {
+                out.printf(Locale.ROOT, "%-24s no samples%n", entry.getKey());
+                continue;
+            }
+            out.printf(Locale.ROOT, "%-24s n %d  mean %.3f ms  p50 %.3f  p90 %.3f  p99 %.3f  max %.3f ms%n",
+                    entry.getKey(), count, histogram.getMean() / 1e6, histogram.valueAtPercentile(50) / 1e6,
+                    histogram.valueAtPercentile(90) / 1e6, histogram.valueAtPercentile(99) / 1e6, histogram.getMax() / 1e6);
+        }
+    }
+
+    // a count that many threads can add to without locking
+    public static class Counter {
+
+        private final LongAdder count = new LongAdder();
+
+        private Counter() {
+        }
+
+        public void increment() {
+            if (ENABLED) {
+                count.increment();
+            }
+        }
+
+        public void add(long amount) {
+            if (ENABLED) {
+                count.add(amount);
+            }
+        }
+
+        public long get() {
+            return count.sum();
+        }
+    }
+
+    // hdr style histogram: values are kept in buckets whose width grows with the value, so every value
+    // up to hours is held within about 3% using a fixed array, and recording is one atomic increment
+    public static class Histogram {
+
+        // 2^SUB_BITS buckets per power of two, the relative error is at most 1 / 2^SUB_BITS
+        private static final int SUB_BITS = 5;
+        private static final int BUCKETS = (Long.SIZE - SUB_BITS) << SUB_BITS;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sum = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        private Histogram() {
+        }
+
+        // records a value, negative values count as 0
+        public void record(long value) {
+            if (!ENABLED) {
+                return;
+            }
+            long clamped = Math.max(0, value);
+            buckets.incrementAndGet(indexOf(clamped));
+            count.increment();
+            sum.add(clamped);
+            max.accumulate(clamped);
+        }
+
+        // records the nanoseconds since a Metrics.now() start time
+        public void recordSince(long startNanos) {
+            if (!ENABLED || startNanos == 0) {
+                return;
+            }
+            record(System.nanoTime() - startNanos);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getMax() {
+            return max.get();
+        }
+
+        public double getMean() {
+            long samples = count.sum();
+            return samples == 0 ? 0 : (double) sum.sum() / samples;
+        }
+
+        // the value at or below which the given percent of samples fall, to bucket precision
+        public long valueAtPercentile(double percent) {
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                total += buckets.get(i);
+            }
+            long target = Math.max(1, (long) Math.ceil(percent / 100 * total));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets.get(i);
+                if (seen >= target) {
+                    return Math.min(highestValueIn(i), getMax());
+                }
+            }
+            return getMax();
+        }
+
+        // values below 2^(SUB_BITS + 1) get a bucket each, above that each power of two is split in 2^SUB_BITS
+        static int indexOf(long value) {
+            int group = Math.max(0, (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BITS);
+            return (group << SUB_BITS) + (int) (value >>> group);
+        }
+
+        static long highestValueIn(int index) {
+            int group = Math.max(0, (index >> SUB_BITS) - 1);
+            long sub = index - ((long) group << SUB_BITS);
+            return ((sub + 1) << group) - 1;
+        }
+    }
+}
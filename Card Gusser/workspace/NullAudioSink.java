@@ -0,0 +1,68 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+import javax.sound.sampled.AudioFormat;
+import java.util.concurrent.locks.LockSupport;
+
+// throws the mixer's output away. in real time mode write blocks like a sound line would,
+// so the mixer runs at the same pace and latency can be measured without an audio device
+public class NullAudioSink implements AudioSink {
+
+    private final boolean realTime;
+    private float frameRate;
+    private int frameSize;
+    private long bufferFrames;
+    private long startNanos;
+    private long framesWritten;
+
+    public NullAudioSink(boolean realTime) {
+        this.realTime = realTime;
+    }
+
+    @Override
+    public void open(AudioFormat format, int bufferBytes) {
+        frameRate = format.getFrameRate();
+        frameSize = format.getFrameSize();
+        bufferFrames = bufferBytes / frameSize;
+        startNanos = System.nanoTime();
+        framesWritten = 0;
+    }
+
+    @Override
+    public void write(byte[] data, int offset, int length) {
+        framesWritten += length / frameSize;
+        if (!realTime) {
+            return;
+        }
+        // wait until what has been written, less a full buffer, would have been played
+        long playedBy = (long) ((framesWritten - bufferFrames) * 1e9 / frameRate);
+        long wait = startNanos + playedBy - System.nanoTime();
+        if (wait > 0) {
+            LockSupport.parkNanos(wait);
+        }
+    }
+
+    @Override
+    public void close() {
+    }
+
+    // frames written since open
+    public long getFramesWritten() {
+        return framesWritten;
+    }
+
+    @Override
+    public String toString() {
+        return realTime ? "null sink (real time)" : "null sink";
+    }
+}
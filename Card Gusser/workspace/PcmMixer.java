@@ -0,0 +1,324 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.util.Arrays;
+
+// a small software mixer for the sound effects, an alternative to one javafx player per voice
+// effects are decoded once into pcm clips. play() only puts the effect on a preallocated command ring,
+// and a dedicated audio thread adds every active voice into one period of samples and writes it to the sink.
+// nothing is allocated per play or per period, and latency is bounded by the period plus the sink's buffer
+public class PcmMixer {
+
+    public static final float SAMPLE_RATE = 44100;
+    public static final int CHANNELS = 2;
+    public static final AudioFormat FORMAT = new AudioFormat(SAMPLE_RATE, 16, CHANNELS, true, false);
+    private static final int BYTES_PER_FRAME = 2 * CHANNELS;
+
+    // play requests waiting for the audio thread, a power of two
+    private static final int COMMAND_SLOTS = 64;
+
+    private static final SoundEffect[] EFFECTS = SoundEffect.values();
+    private static final Metrics.Histogram START_LATENCY = Metrics.histogram("sound.mixerStart");
+    private static final Metrics.Counter VOICES_RESTARTED = Metrics.counter("sound.mixerRestarted");
+    private static final Metrics.Counter PLAYS_DROPPED = Metrics.counter("sound.mixerDropped");
+
+    private final int periodFrames;
+    private final int bufferPeriods;
+
+    // decoded clips, 16 bit samples with channels interleaved, indexed by effect ordinal
+    private final short[][] clips = new short[EFFECTS.length][];
+
+    // voices, only touched by the audio thread
+    private final short[][] voiceClip;         // null when the voice is free
+    private final int[] voicePosition;         // next sample of the clip
+    private final long[] voiceStartOrder;      // for restarting the oldest voice when all are busy
+    private final long[] voiceRequestedNanos;  // when play() was called, 0 once its first period is out
+    private long startCounter;
+
+    // command ring: play() writes a slot and publishes it, the audio thread reads up to the published count
+    private final Object commandLock = new Object();
+    private final int[] commandEffect = new int[COMMAND_SLOTS];
+    private final long[] commandNanos = new long[COMMAND_SLOTS];
+    private volatile long commandsWritten;
+    private volatile long commandsRead;
+
+    // one period, mixed wide then clamped into bytes
+    private final int[] mixBuffer;
+    private final byte[] outputBuffer;
+
+    private volatile boolean running;
+    private Thread audioThread;
+    private AudioSink sink;
+
+    // stats, written by the audio thread
+    private volatile long voicesStarted;
+    private volatile long latencyTotalNanos;
+    private volatile long latencyMaxNanos;
+    private volatile long voicesStolen;
+    private volatile long commandsDropped;
+
+    // periods and voices set with -Dcardguesser.mixer.periodFrames, .bufferPeriods and .voices
+    public PcmMixer() {
+        this(Integer.getInteger("cardguesser.mixer.periodFrames", 128),
+                Integer.getInteger("cardguesser.mixer.bufferPeriods", 2),
+                Integer.getInteger("cardguesser.mixer.voices", 8));
+    }
+
+    public PcmMixer(int periodFrames, int bufferPeriods, int maxVoices) {
+        if (periodFrames < 1 || bufferPeriods < 1 || maxVoices < 1) {
+            throw new IllegalArgumentException("Mixer sizes must be at least 1");
+        }
+        this.periodFrames = periodFrames;
+        this.bufferPeriods = bufferPeriods;
+        this.voiceClip = new short[maxVoices][];
+        this.voicePosition = new int[maxVoices];
+        this.voiceStartOrder = new long[maxVoices];
+        this.voiceRequestedNanos = new long[maxVoices];
+        this.mixBuffer = new int[periodFrames * CHANNELS];
+        this.outputBuffer = new byte[periodFrames * BYTES_PER_FRAME];
+    }
+
+    // reads the wav copy of every effect (see sounds/convert-to-wav.sh), returns how many could be used
+    public int loadClips() {
+        int loaded = 0;
+        for (SoundEffect effect : EFFECTS) {
+            short[] clip = readWav(effect.getWavResourcePath());
+            if (clip != null) {
+                clips[effect.ordinal()] = clip;
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    // sets an effect's clip directly: 16 bit samples at SAMPLE_RATE, channels interleaved
+    public void setClip(SoundEffect effect, short[] samples) {
+        if (samples.length % CHANNELS != 0) {
+            throw new IllegalArgumentException("Clip has a partial frame");
+        }
+        clips[effect.ordinal()] = samples;
+    }
+
+    public boolean hasClip(SoundEffect effect) {
+        return clips[effect.ordinal()] != null;
+    }
+
+    // opens the sink and starts the audio thread
+    public synchronized void start(AudioSink output) throws LineUnavailableException {
+        if (running) {
+            return;
+        }
+        output.open(FORMAT, periodFrames * BYTES_PER_FRAME * bufferPeriods);
+        sink = output;
+        running = true;
+        audioThread = new Thread(this::run, "audio-mixer");
+        audioThread.setDaemon(true);
+        audioThread.setPriority(Thread.MAX_PRIORITY);
+        audioThread.start();
+    }
+
+    // stops the audio thread and closes the sink
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            audioThread.join(1000);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        sink.close();
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    // queues an effect, returns false if it has no clip or the ring is full. safe from any thread
+    public boolean play(SoundEffect effect) {
+        int index = effect.ordinal();
+        if (clips[index] == null) {
+            return false;
+        }
+        synchronized (commandLock) {
+            long written = commandsWritten;
+            if (written - commandsRead >= COMMAND_SLOTS) {
+                commandsDropped++;
+                PLAYS_DROPPED.increment();
+                return false;
+            }
+            int slot = (int) (written & (COMMAND_SLOTS - 1));
+            commandEffect[slot] = index;
+            commandNanos[slot] = System.nanoTime();
+            commandsWritten = written + 1; // publishes the slot to the audio thread
+        }
+        return true;
+    }
+
+    // audio thread: start queued voices, mix a period, hand it to the sink, repeat
+    private void run() {
+        while (running) {
+            startQueuedVoices();
+            mixPeriod();
+            recordStartLatency();
+            sink.write(outputBuffer, 0, outputBuffer.length);
+        }
+    }
+
+    private void startQueuedVoices() {
+        long written = commandsWritten;
+        for (long read = commandsRead; read < written; read++) {
+            int slot = (int) (read & (COMMAND_SLOTS - 1));
+            int voice = freeVoice();
+            voiceClip[voice] = clips[commandEffect[slot]];
+            voicePosition[voice] = 0;
+            voiceStartOrder[voice] = startCounter++;
+            voiceRequestedNanos[voice] = commandNanos[slot];
+        }
+        commandsRead = written;
+    }
+
+    // a voice with nothing playing, or the one started longest ago
+    private int freeVoice() {
+        int oldest = 0;
+        for (int voice = 0; voice < voiceClip.length; voice++) {
+            if (voiceClip[voice] == null) {
+                return voice;
+            }
+            if (voiceStartOrder[voice] < voiceStartOrder[oldest]) {
+                oldest = voice;
+            }
+        }
+        if (voiceRequestedNanos[oldest] != 0) {
+            recordLatency(voiceRequestedNanos[oldest]); // replaced before it was heard, count it anyway
+        }
+        voicesStolen++;
+        VOICES_RESTARTED.increment();
+        return oldest;
+    }
+
+    // adds every active voice into the period, then clamps to 16 bits
+    private void mixPeriod() {
+        Arrays.fill(mixBuffer, 0);
+        for (int voice = 0; voice < voiceClip.length; voice++) {
+            short[] clip = voiceClip[voice];
+            if (clip == null) {
+                continue;
+            }
+            int position = voicePosition[voice];
+            int count = Math.min(mixBuffer.length, clip.length - position);
+            for (int i = 0; i < count; i++) {
+                mixBuffer[i] += clip[position + i];
+            }
+            position += count;
+            if (position >= clip.length) {
+                voiceClip[voice] = null; // finished, the voice is free again
+            }
+            voicePosition[voice] = position;
+        }
+        for (int i = 0; i < mixBuffer.length; i++) {
+            int sample = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, mixBuffer[i]));
+            outputBuffer[2 * i] = (byte) sample;
+            outputBuffer[2 * i + 1] = (byte) (sample >> 8);
+        }
+    }
+
+    // voices whose first samples are in this period have now left the mixer
+    private void recordStartLatency() {
+        for (int voice = 0; voice < voiceRequestedNanos.length; voice++) {
+            if (voiceRequestedNanos[voice] != 0) {
+                recordLatency(voiceRequestedNanos[voice]);
+                voiceRequestedNanos[voice] = 0;
+            }
+        }
+    }
+
+    private void recordLatency(long requestedNanos) {
+        long latency = System.nanoTime() - requestedNanos;
+        voicesStarted++;
+        latencyTotalNanos += latency;
+        latencyMaxNanos = Math.max(latencyMaxNanos, latency);
+        START_LATENCY.record(latency);
+    }
+
+    // milliseconds of audio in one period, and in the sink's buffer
+    public double getPeriodMillis() {
+        return periodFrames * 1000.0 / SAMPLE_RATE;
+    }
+
+    public double getBufferMillis() {
+        return getPeriodMillis() * bufferPeriods;
+    }
+
+    public long getVoicesStarted() {
+        return voicesStarted;
+    }
+
+    public double getAverageLatencyMillis() {
+        long started = voicesStarted;
+        return started == 0 ? 0 : latencyTotalNanos / 1e6 / started;
+    }
+
+    public double getMaxLatencyMillis() {
+        return latencyMaxNanos / 1e6;
+    }
+
+    public long getVoicesRestarted() {
+        return voicesStolen;
+    }
+
+    public long getPlaysDropped() {
+        return commandsDropped;
+    }
+
+    // reads a wav resource into 16 bit interleaved stereo at SAMPLE_RATE, null if missing or unusable
+    private static short[] readWav(String resourcePath) {
+        InputStream resource = PcmMixer.class.getResourceAsStream(resourcePath);
+        if (resource == null) {
+            return null; // not converted, the effect stays on javafx media
+        }
+        try (AudioInputStream source = AudioSystem.getAudioInputStream(new BufferedInputStream(resource))) {
+            AudioFormat sourceFormat = source.getFormat();
+            int channels = sourceFormat.getChannels();
+            if (Math.abs(sourceFormat.getSampleRate() - SAMPLE_RATE) > 1 || channels < 1 || channels > 2) {
+                System.err.println("Mixer needs 44.1 kHz mono or stereo: " + resourcePath + " is " + sourceFormat);
+                return null;
+            }
+            AudioFormat pcmFormat = new AudioFormat(SAMPLE_RATE, 16, channels, true, false);
+            try (AudioInputStream pcm = AudioSystem.getAudioInputStream(pcmFormat, source)) {
+                byte[] bytes = pcm.readAllBytes();
+                int frames = bytes.length / (2 * channels);
+                short[] samples = new short[frames * CHANNELS];
+                for (int frame = 0; frame < frames; frame++) {
+                    for (int channel = 0; channel < CHANNELS; channel++) {
+                        int byteIndex = 2 * (frame * channels + Math.min(channel, channels - 1)); // mono goes to both sides
+                        samples[frame * CHANNELS + channel] = (short) ((bytes[byteIndex] & 0xFF) | (bytes[byteIndex + 1] << 8));
+                    }
+                }
+                return samples;
+            }
+        }
+        catch (Exception e) {
+            System.err.println("Error reading " + resourcePath + ": " + e.getMessage());
+            return null;
+        }
+    }
+}
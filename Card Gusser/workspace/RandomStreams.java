@@ -0,0 +1,77 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+// creates seeded random generators and independent streams of them for parallel workers
+public class RandomStreams {
+
+    // used when no algorithm is given, fast and splittable
+    public static final String DEFAULT_ALGORITHM = "L64X128MixRandom";
+
+    // the game picks these up at launch, -Dcardguesser.seed=123 replays the same shuffles
+    public static final String ALGORITHM_PROPERTY = "cardguesser.rng";
+    public static final String SEED_PROPERTY = "cardguesser.seed";
+
+    // creates a generator of the named algorithm (SplittableRandom, L64X128MixRandom, Xoshiro256PlusPlus...)
+    public static RandomGenerator create(String algorithm, long seed) {
+        if (algorithm.equals("SplittableRandom")) {
+            return new SplittableRandom(seed);
+        }
+        return RandomGeneratorFactory.of(algorithm).create(seed);
+    }
+
+    // creates a generator from the launch properties, unseeded if no seed was given
+    public static RandomGenerator fromSystemProperties() {
+        String algorithm = System.getProperty(ALGORITHM_PROPERTY, DEFAULT_ALGORITHM);
+        Long seed = Long.getLong(SEED_PROPERTY);
+        try {
+            if (seed != null) {
+                return create(algorithm, seed);
+            }
+            return RandomGeneratorFactory.of(algorithm).create();
+        }
+        catch (IllegalArgumentException e) {
+            System.err.println("Unknown random algorithm " + algorithm + ", using " + DEFAULT_ALGORITHM);
+            return seed != null ? create(DEFAULT_ALGORITHM, seed) : RandomGeneratorFactory.of(DEFAULT_ALGORITHM).create();
+        }
+    }
+
+    // derives count independent streams from one seed, the same seed always gives the same streams
+    // splittable generators are split, jumpable ones jump ahead, anything else is reseeded from a splitter
+    public static RandomGenerator[] streams(String algorithm, long seed, int count) {
+        RandomGenerator root = create(algorithm, seed);
+        RandomGenerator[] streams = new RandomGenerator[count];
+        if (root instanceof RandomGenerator.SplittableGenerator) {
+            RandomGenerator.SplittableGenerator splitter = (RandomGenerator.SplittableGenerator) root;
+            for (int i = 0; i < count; i++) {
+                streams[i] = splitter.split();
+            }
+        }
+        else if (root instanceof RandomGenerator.JumpableGenerator) {
+            RandomGenerator.JumpableGenerator jumper = (RandomGenerator.JumpableGenerator) root;
+            for (int i = 0; i < count; i++) {
+                streams[i] = jumper.copyAndJump(); // each stream starts a full jump after the last
+            }
+        }
+        else {
+            SplittableRandom seeds = new SplittableRandom(seed);
+            for (int i = 0; i < count; i++) {
+                streams[i] = create(algorithm, seeds.nextLong());
+            }
+        }
+        return streams;
+    }
+}
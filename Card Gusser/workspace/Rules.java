@@ -41,14 +41,20 @@ public class Rules {
         titleLabel.setFont(Font.font("Arial", FontWeight.BOLD, 24));
         titleLabel.setStyle("-fx-text-fill: white;"); 
 
+        // the timer and hints come from the level schedule the game will play
+        LevelSchedule schedule = LevelSchedule.getDefault();
+        int hints = schedule.getStartingHints();
         Label rulesLabel = new Label(
                 """
                 Guess the hidden card based on the chosen difficulty:
                 - Easy: Guess the correct Suit (Hearts, Diamonds, Clubs, Spades).
                 - Hard: Guess the correct Rank (2, 3, ..., King, Ace).
 
-                You have 15 seconds per level and 3 hints for the entire game.
-                Correct guesses earn XP. Using a hint reduces XP earned. Good luck!"""
+                You have %d seconds per level and %d %s for the entire game.
+                Correct guesses earn XP. Using a hint reduces XP earned. Good luck!
+
+                Shortcut keys: H, D, C, S (Easy) or 2-9, T, J, Q, K, A (Hard)."""
+                .formatted(schedule.secondsFor(1), hints, hints == 1 ? "hint" : "hints")
         );
         rulesLabel.setFont(Font.font("Arial", 16)); 
         rulesLabel.setTextAlignment(TextAlignment.CENTER); 
@@ -124,7 +130,6 @@ public class Rules {
         button.setOnAction(e -> {
             mainApp.setDifficulty(difficulty);
             mainApp.setLevel(1); 
-            mainApp.getGameDeck().shuffle(); 
             mainApp.showGameScene(); 
         });
         return button;
@@ -0,0 +1,91 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+import java.util.random.RandomGenerator;
+
+// several decks mixed together, shuffled lazily one draw at a time
+// a shuffle only resets the draw index, each draw then swaps a random undrawn card to the front
+// (incremental fisher-yates), so shuffling costs the same for one deck or a million
+public class Shoe extends Deck {
+
+    // draws left before the shoe is reshuffled at the start of the next game
+    private final int cutIndex;
+
+    // creates a shoe of deckCount decks with no cut card, it is reshuffled when it runs out
+    public Shoe(int deckCount, RandomGenerator random) {
+        this(deckCount, 1.0, random);
+    }
+
+    // penetration is the fraction of the shoe dealt before the cut card (0.75 deals three quarters)
+    public Shoe(int deckCount, double penetration, RandomGenerator random) {
+        super(deckCount, random);
+        if (penetration > 0 && penetration < 1) {
+            cutIndex = Math.max(1, (int) (cards.length * penetration));
+        }
+        else {
+            cutIndex = cards.length;
+        }
+        shuffle();
+    }
+
+    // creates a shoe from -Dcardguesser.shoeDecks and -Dcardguesser.penetration, or a plain deck if not set
+    public static Deck fromSystemProperties() {
+        int deckCount = Integer.getInteger("cardguesser.shoeDecks", 0);
+        if (deckCount <= 0) {
+            return new Deck();
+        }
+        double penetration = Double.parseDouble(System.getProperty("cardguesser.penetration", "1"));
+        return new Shoe(deckCount, penetration, RandomStreams.fromSystemProperties());
+    }
+
+    // puts every card back, the order is randomised as cards are drawn
+    @Override
+    public void shuffle() {
+        currentCardIndex = 0;
+        shuffleCount++;
+        SHUFFLES.increment();
+        resetRemaining();
+    }
+
+    // games keep dealing from the same shoe until the cut card has come out
+    @Override
+    public void prepareForNewGame() {
+        if (isCutCardReached()) {
+            shuffle();
+        }
+    }
+
+    // picks a random card from the undrawn part and swaps it into place
+    @Override
+    public Card drawCard() {
+        if (currentCardIndex >= cards.length) {
+            shuffle(); // cheap, so running out mid-level never stalls
+        }
+        int i = currentCardIndex++;
+        int j = i + random.nextInt(cards.length - i);
+        byte drawn = cards[j];
+        cards[j] = cards[i];
+        cards[i] = drawn;
+        markDrawn(drawn);
+        return Card.of(drawn);
+    }
+
+    // true once the dealing has passed the cut card
+    public boolean isCutCardReached() {
+        return currentCardIndex >= cutIndex;
+    }
+
+    public int getCutIndex() {
+        return cutIndex;
+    }
+}
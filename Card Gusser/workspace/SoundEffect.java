@@ -0,0 +1,41 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+// the game's sound effects, the ordinal indexes the sound manager's player arrays
+public enum SoundEffect {
+    CORRECT("correct"),
+    WRONG("wrong"),
+    WIN("win"),
+    LOSE("lose"),
+    FLIP("flip");
+
+    private static final String SOUND_FOLDER = "/workspace/sounds/";
+
+    private final String resourcePath;
+    private final String wavResourcePath;
+
+    SoundEffect(String name) {
+        this.resourcePath = SOUND_FOLDER + name + ".mp3";
+        this.wavResourcePath = SOUND_FOLDER + name + ".wav";
+    }
+
+    // the mp3 played through javafx media
+    public String getResourcePath() {
+        return resourcePath;
+    }
+
+    // the pcm copy read by the software mixer, made from the mp3 by sounds/convert-to-wav.sh
+    public String getWavResourcePath() {
+        return wavResourcePath;
+    }
+}
@@ -14,41 +14,93 @@ package workspace;
 
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
-import javafx.util.Duration;
 
+import javax.sound.sampled.LineUnavailableException;
+
+// plays sound effects from players made once at load time
+// each effect has a small fixed pool of players (voices), so quick repeats like wrong-wrong-correct
+// overlap without creating native players. when every voice of an effect is busy the oldest is restarted
 public class SoundManager {
 
-    public static final String SOUND_CORRECT = "CORRECT";
-    public static final String SOUND_WRONG = "WRONG";
-    public static final String SOUND_WIN = "WIN";
-    public static final String SOUND_LOSE = "LOSE";
-    public static final String SOUND_FLIP = "FLIP";
+    // voices per effect, set with -Dcardguesser.soundVoices
+    private static final int VOICES_PER_EFFECT = Math.max(1, Integer.getInteger("cardguesser.soundVoices", 2));
+
+    private static final SoundEffect[] EFFECTS = SoundEffect.values();
+
+    // -Dcardguesser.mixer=true plays effects that have a wav copy through the software mixer instead
+    private static final boolean USE_MIXER = Boolean.getBoolean("cardguesser.mixer");
+    private static volatile PcmMixer mixer;
 
-    private static Media correctMedia;
-    private static Media wrongMedia;
-    private static Media winMedia;
-    private static Media loseMedia;
-    private static Media flipMedia;
+    // indexed by effect ordinal, then voice
+    private static MediaPlayer[][] voices;
+    private static boolean[][] voiceBusy;
+    private static long[][] voiceStartedNanos;  // when play() was asked for, 0 once it is playing
+    private static int[] nextVoice;             // oldest voice, the one to restart when all are busy
 
-    private static boolean soundsLoaded = false; 
+    // playback start latency: play() call to the player reporting it is playing
+    private static final Metrics.Histogram START_LATENCY = Metrics.histogram("sound.start");
+    private static final Metrics.Counter VOICES_RESTARTED = Metrics.counter("sound.restarted");
 
-    // loads all sound files when the game starts
-    public static void loadSounds() {
+    // written by the asset loader thread, read on the fx thread
+    private static volatile boolean soundsLoaded = false; 
+
+    // loads every effect and creates its players, called once by the asset loader
+    public static synchronized void loadSounds() {
         if (soundsLoaded) {
              return;
         }
+        MediaPlayer[][] players = new MediaPlayer[EFFECTS.length][VOICES_PER_EFFECT];
+        for (SoundEffect effect : EFFECTS) {
+            Media media = loadMedia(effect.getResourcePath());
+            if (media == null) {
+                continue; // this effect stays silent, the others still play
+            }
+            for (int voice = 0; voice < VOICES_PER_EFFECT; voice++) {
+                players[effect.ordinal()][voice] = createPlayer(media, effect.ordinal(), voice);
+            }
+        }
+        voiceBusy = new boolean[EFFECTS.length][VOICES_PER_EFFECT];
+        voiceStartedNanos = new long[EFFECTS.length][VOICES_PER_EFFECT];
+        nextVoice = new int[EFFECTS.length];
+        voices = players;
+        if (USE_MIXER) {
+            startMixer();
+        }
+        soundsLoaded = true;
+    }
+
+    // starts the software mixer on the sound device, effects without a wav keep their javafx players
+    private static void startMixer() {
+        PcmMixer pcmMixer = new PcmMixer();
+        int clips = pcmMixer.loadClips();
+        if (clips == 0) {
+            System.err.println("Mixer has no wav effects to play, run sounds/convert-to-wav.sh to make them. Using javafx media");
+            return;
+        }
         try {
-            correctMedia = loadMedia("/workspace/sounds/correct.mp3");
-            wrongMedia   = loadMedia("/workspace/sounds/wrong.mp3");
-            winMedia     = loadMedia("/workspace/sounds/win.mp3");
-            loseMedia    = loadMedia("/workspace/sounds/lose.mp3");
-            flipMedia    = loadMedia("/workspace/sounds/flip.mp3");
-
-            soundsLoaded = true;
-            System.out.println("Sounds loaded successfully.");
-        } 
-        catch (Exception e) {
-            System.err.println("Error loading sounds: " + e.getMessage());
+            pcmMixer.start(new LineAudioSink());
+            mixer = pcmMixer;
+            reportFallbacks(pcmMixer);
+        }
+        catch (LineUnavailableException | IllegalArgumentException e) {
+            System.err.println("No sound line for the mixer, using javafx media: " + e.getMessage());
+        }
+    }
+
+    // names every effect the mixer has no wav for, those still play through their javafx players
+    private static void reportFallbacks(PcmMixer pcmMixer) {
+        StringBuilder missing = new StringBuilder();
+        for (SoundEffect effect : EFFECTS) {
+            if (!pcmMixer.hasClip(effect)) {
+                if (missing.length() > 0) {
+                    missing.append(", ");
+                }
+                missing.append(effect).append(" (").append(effect.getWavResourcePath()).append(')');
+            }
+        }
+        if (missing.length() > 0) {
+            System.err.println("Mixer has no wav for " + missing + ", these effects use javafx media."
+                    + " Run sounds/convert-to-wav.sh to make them");
         }
     }
 
@@ -65,47 +117,93 @@ public class SoundManager {
          }
     }
 
-    // plays the requested sound effect
-    public static void playSound(String soundIdentifier) {
+    // one voice, its callbacks run on the fx thread like play()
+    private static MediaPlayer createPlayer(Media media, int effect, int voice) {
+        try {
+            MediaPlayer player = new MediaPlayer(media);
+            player.setOnPlaying(() -> recordStart(effect, voice));
+            player.setOnEndOfMedia(() -> {
+                player.stop(); // rewinds, so the next play starts from the beginning
+                voiceBusy[effect][voice] = false;
+            });
+            return player;
+        }
+        catch (Exception e) {
+            System.err.println("Error creating player for " + EFFECTS[effect] + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    // plays a sound effect on a free voice, or restarts its oldest voice, must be called on the fx thread
+    public static void playSound(SoundEffect effect) {
         if (!soundsLoaded) {
-            System.err.println("Cannot play sound: " + soundIdentifier + " (Sounds not loaded)");
+            System.err.println("Cannot play sound: " + effect + " (Sounds not loaded)");
             return;
         }
-
-        Media mediaToPlay = null;
-
-        if (soundIdentifier.equals(SOUND_CORRECT)) {
-            mediaToPlay = correctMedia;
-        } 
-        else if (soundIdentifier.equals(SOUND_WRONG)) {
-            mediaToPlay = wrongMedia;
-        } 
-        else if (soundIdentifier.equals(SOUND_WIN)) {
-            mediaToPlay = winMedia;
-        } 
-        else if (soundIdentifier.equals(SOUND_LOSE)) {
-            mediaToPlay = loseMedia;
-        } 
-        else if (soundIdentifier.equals(SOUND_FLIP)) {
-            mediaToPlay = flipMedia;
-        } 
-        else {
-            System.err.println("Unknown sound identifier: " + soundIdentifier);
-            return; 
+        PcmMixer pcmMixer = mixer;
+        if (pcmMixer != null && pcmMixer.play(effect)) {
+            return;
+        }
+        int index = effect.ordinal();
+        MediaPlayer[] effectVoices = voices[index];
+        if (effectVoices[0] == null) {
+            return; // failed to load, already reported
         }
 
-        if (mediaToPlay == null) {
-            System.err.println("Cannot play sound: " + soundIdentifier + " (Media not loaded)");
-            return;
+        int voice = -1;
+        for (int i = 0; i < effectVoices.length; i++) {
+            if (!voiceBusy[index][i]) {
+                voice = i;
+                break;
+            }
         }
+        if (voice < 0) {
+            voice = nextVoice[index];
+            VOICES_RESTARTED.increment();
+        }
+        nextVoice[index] = (voice + 1) % effectVoices.length;
 
         try {
-            MediaPlayer mediaPlayer = new MediaPlayer(mediaToPlay);
-            mediaPlayer.seek(Duration.ZERO); 
-            mediaPlayer.play();
+            MediaPlayer player = effectVoices[voice];
+            if (voiceBusy[index][voice]) {
+                player.stop(); // still sounding, cut it off and start over
+            }
+            voiceBusy[index][voice] = true;
+            voiceStartedNanos[index][voice] = System.nanoTime();
+            player.play();
         } 
         catch (Exception e) {
-            System.err.println("Error playing sound " + soundIdentifier + ": " + e.getMessage());
+            System.err.println("Error playing sound " + effect + ": " + e.getMessage());
+        }
+    }
+
+    private static void recordStart(int effect, int voice) {
+        long requested = voiceStartedNanos[effect][voice];
+        if (requested == 0) {
+            return; // resumed, not started
+        }
+        voiceStartedNanos[effect][voice] = 0;
+        START_LATENCY.recordSince(requested);
+    }
+
+    // stops and releases every player, sounds can be loaded again afterwards
+    public static synchronized void dispose() {
+        if (!soundsLoaded) {
+            return;
+        }
+        soundsLoaded = false;
+        if (mixer != null) {
+            mixer.stop();
+            mixer = null;
+        }
+        for (MediaPlayer[] effectVoices : voices) {
+            for (MediaPlayer player : effectVoices) {
+                if (player != null) {
+                    player.stop();
+                    player.dispose();
+                }
+            }
         }
+        voices = null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+import java.util.random.RandomGenerator;
+
+// a bot player, it only sees the visible game state and answers with a guess or a hint request
+// the same bot can play headless in GameSimulator or drive the real screen in GameScene's demo mode
+public interface Strategy {
+
+    // returned by nextMove to ask for a hint instead of guessing
+    int USE_HINT = -1;
+
+    // names accepted by create
+    String[] NAMES = {"random", "hint-greedy", "color-hint", "card-counting"};
+
+    // creates a bot by name, bots keep per-card state so each game loop needs its own
+    static Strategy create(String name) {
+        switch (name) {
+            case "random": return new RandomStrategy();
+            case "hint-greedy": return new HintGreedyStrategy();
+            case "color-hint": return new ColorHintStrategy();
+            case "card-counting": return new CardCountingStrategy();
+            default: throw new IllegalArgumentException("Unknown strategy: " + name);
+        }
+    }
+
+    // called when a new card is up for guessing
+    void newCard(VisibleGameState state);
+
+    // picks a suit (easy) or rank (hard) to guess, or USE_HINT
+    int nextMove(VisibleGameState state, RandomGenerator random);
+
+    // called after a wrong guess so the value is not tried again
+    void guessRejected(int guessedValue);
+}
@@ -0,0 +1,54 @@
+/**
+* @description
+* This program is a basic card guessing game.
+* It features two modes where the player tries to guess either the suit or the rank
+* of a hidden card drawn from a standard deck.
+* Each guess must be made within a 15-second time limit, and players progress through 10 levels
+* earning score points for correct guesses, with optional vague hints available
+* that reduce the score earned. The application includes simple sound effects, background,
+* images and basic popups for game feedback and navigation.
+*
+*/
+package workspace;
+
+// what a player can see of a game: no hidden cards, only what is on screen or has been revealed
+// bots are given this instead of the engine so they cannot peek at the card being guessed
+public interface VisibleGameState {
+
+    // "Easy" (guess the suit) or "Hard" (guess the rank)
+    String getDifficulty();
+
+    boolean isEasyMode();
+
+    int getLevelNumber();
+
+    // which card of the level is being guessed, from 0
+    int getGuessIndex();
+
+    // how many cards the current level deals
+    int getCardsInLevel();
+
+    int getScore();
+
+    int getHintsRemaining();
+
+    // whether the current level lets hints be used at all
+    boolean isHintAllowed();
+
+    // category of the hint given for the current card, or GameEngine.HINT_NONE
+    int getHintCategory();
+
+    int getSecondsLeft();
+
+    // how many 52 card decks are being dealt from
+    int getDeckCount();
+
+    // cards of a suit (0-3) seen since the last shuffle
+    int getRevealedSuitCount(int suit);
+
+    // cards of a rank (2-14) seen since the last shuffle
+    int getRevealedRankCount(int rank);
+
+    // cards seen since the last shuffle
+    int getRevealedCount();
+}
@@ -0,0 +1,8 @@
+@echo off
+rem converts the mp3 effects into the 44.1 kHz, 16 bit stereo wav copies the software mixer plays
+rem (-Dcardguesser.mixer=true). needs ffmpeg on the path, the wavs are written next to the mp3s
+cd /d "%~dp0"
+for %%n in (correct wrong win lose flip) do (
+    ffmpeg -v error -y -i "%%n.mp3" -ar 44100 -ac 2 -c:a pcm_s16le "%%n.wav" || exit /b 1
+    echo Converted %%n.mp3 to %%n.wav
+)
@@ -0,0 +1,9 @@
+#!/bin/sh
+# converts the mp3 effects into the 44.1 kHz, 16 bit stereo wav copies the software mixer plays
+# (-Dcardguesser.mixer=true). needs ffmpeg on the path, the wavs are written next to the mp3s
+# run it again whenever an mp3 changes, the mixer skips any effect without a wav
+cd "$(dirname "$0")" || exit 1
+for name in correct wrong win lose flip; do
+    ffmpeg -v error -y -i "$name.mp3" -ar 44100 -ac 2 -c:a pcm_s16le "$name.wav" || exit 1
+    echo "Converted $name.mp3 to $name.wav"
+done